@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2022 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -77,6 +77,7 @@ public class AutomatedSuite extends TestSuite {
 		addTest(new TestSuite(ThreadDeathEventTest.class));
 		addTest(new TestSuite(ThreadGroupReferenceTest.class));
 		addTest(new TestSuite(ThreadReferenceTest.class));
+		addTest(new TestSuite(ThreadSnapshotTest.class));
 		addTest(new TestSuite(ThreadStartEventTest.class));
 		addTest(new TestSuite(TypeComponentTest.class));
 		addTest(new TestSuite(TypeTest.class));
@@ -103,6 +104,14 @@ public class AutomatedSuite extends TestSuite {
 		if (Runtime.version().feature() >= 19) {
 			addTest(new TestSuite(VirtualThreadTest.class));
 		}
+
+		// Implementation tests that do not use the test VM
+		addTest(new TestSuite(UnixDomainTransportServiceTest.class));
+		addTest(new TestSuite(CompressionRelayTest.class));
+		addTest(new TestSuite(TimedOutPacketIdsTest.class));
+		addTest(new TestSuite(MirrorCacheTest.class));
+		addTest(new TestSuite(PacketSendManagerTest.class));
+		addTest(new TestSuite(JdwpStringTest.class));
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import com.sun.jdi.IntegerValue;
 import com.sun.jdi.InterfaceType;
 import com.sun.jdi.InvalidTypeException;
 import com.sun.jdi.InvocationException;
+import com.sun.jdi.Location;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.StringReference;
@@ -222,6 +223,28 @@ public class ClassTypeTest extends AbstractJDITest {
 		}
 		assertEquals("2", 1, locations.size());
 	}
+	/**
+	 * Test that JDI locationsOfLine(int) finds the locations of every line
+	 * returned by allLineLocations(), and nothing at lines without code.
+	 */
+	public void testJDILocationsOfLineMatchAllLineLocations() {
+		try {
+			int maxLine = 0;
+			for (Location location : fType.allLineLocations()) {
+				int lineNumber = location.lineNumber();
+				maxLine = Math.max(maxLine, lineNumber);
+				boolean found = false;
+				for (Location lineLocation : fType.locationsOfLine(lineNumber)) {
+					assertEquals("1", lineNumber, lineLocation.lineNumber());
+					found |= lineLocation.codeIndex() <= location.codeIndex() && lineLocation.method().equals(location.method());
+				}
+				assertTrue("2", found);
+			}
+			assertTrue("3", fType.locationsOfLine(maxLine + 1000).isEmpty());
+		} catch (AbsentInformationException e) {
+			fail("4");
+		}
+	}
 	/**
 	 * Test JDI methodByName
 	 */
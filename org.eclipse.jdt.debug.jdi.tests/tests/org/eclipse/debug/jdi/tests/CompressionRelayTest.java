@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.jdi.internal.connect.CompressionRelay;
+import org.eclipse.jdi.internal.connect.SocketTransportService;
+
+import com.sun.jdi.connect.spi.ClosedConnectionException;
+import com.sun.jdi.connect.spi.Connection;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests compressed connections through a {@link CompressionRelay} started as a
+ * separate process, in front of an agent that echoes the data of each command
+ * in its reply.
+ */
+public class CompressionRelayTest extends TestCase {
+
+	/** Classes the relay needs next to the JDK. */
+	private static final String[] RELAY_CLASSES = { "CompressionRelay", "CompressedFrames", "CompressedFrames$Reader", "CompressedFrames$Writer" };
+
+	private Path fClasses;
+	private ServerSocket fAgentSocket;
+	private Thread fAgent;
+	private Process fRelay;
+	private Connection fConnection;
+
+	@Override
+	protected void setUp() throws Exception {
+		fClasses = Files.createTempDirectory("relay");
+		Path dir = Files.createDirectories(fClasses.resolve(CompressionRelay.class.getPackageName().replace('.', '/')));
+		for (String name : RELAY_CLASSES) {
+			try (InputStream in = CompressionRelay.class.getResourceAsStream(name + ".class")) {
+				assertNotNull("Missing class " + name, in);
+				Files.copy(in, dir.resolve(name + ".class"));
+			}
+		}
+
+		fAgentSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+		fAgent = new Thread(this::echo, "Echo agent");
+		fAgent.setDaemon(true);
+		fAgent.start();
+
+		String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+		fRelay = new ProcessBuilder(java, "-cp", fClasses.toString(), CompressionRelay.class.getName(), "0", Integer.toString(fAgentSocket.getLocalPort())).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+		BufferedReader out = new BufferedReader(new InputStreamReader(fRelay.getInputStream(), StandardCharsets.UTF_8));
+		String line = out.readLine();
+		assertNotNull("Relay did not start", line);
+		String port = line.substring(line.lastIndexOf(' ') + 1);
+
+		SocketTransportService service = new SocketTransportService();
+		service.setUseCompression(true);
+		try {
+			fConnection = service.attach(InetAddress.getLoopbackAddress().getHostAddress() + ":" + port, 10000, 10000);
+		} catch (Throwable e) {
+			tearDown();
+			throw e;
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (fConnection != null) {
+			fConnection.close();
+		}
+		if (fRelay != null) {
+			fRelay.destroy();
+			fRelay.waitFor();
+		}
+		fAgentSocket.close();
+		fAgent.join(10000);
+		try (var files = Files.walk(fClasses)) {
+			for (Path file : (Iterable<Path>) files.sorted((a, b) -> b.compareTo(a))::iterator) {
+				Files.delete(file);
+			}
+		}
+	}
+
+	/**
+	 * Accepts a connection from the relay and replies to each command with its
+	 * own data.
+	 */
+	private void echo() {
+		try (Socket socket = fAgentSocket.accept()) {
+			DataInputStream in = new DataInputStream(socket.getInputStream());
+			DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+			byte[] handshake = new byte[14];
+			in.readFully(handshake);
+			out.write(handshake);
+			out.flush();
+			while (true) {
+				int length = in.readInt();
+				int id = in.readInt();
+				in.readByte(); // flags
+				in.readShort(); // command set and command
+				byte[] data = new byte[length - 11];
+				in.readFully(data);
+				out.writeInt(length);
+				out.writeInt(id);
+				out.writeByte(0x80);
+				out.writeShort(0); // error code
+				out.write(data);
+				out.flush();
+			}
+		} catch (IOException e) {
+			// closed
+		}
+	}
+
+	/**
+	 * @return Returns a command packet in its wire format.
+	 */
+	private static byte[] command(int id, byte[] data) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(11 + data.length);
+		out.writeInt(id);
+		out.writeByte(0);
+		out.writeByte(1); // VirtualMachine
+		out.writeByte(1); // Version
+		out.write(data);
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Sends a command and checks that its reply carries the same data.
+	 */
+	private void assertEcho(int id, byte[] data) throws IOException {
+		fConnection.writePacket(command(id, data));
+		byte[] reply = fConnection.readPacket();
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(reply));
+		assertEquals("Wrong reply length", 11 + data.length, in.readInt());
+		assertEquals("Wrong reply id", id, in.readInt());
+		assertEquals("Not a reply", (byte) 0x80, in.readByte());
+		assertEquals("Wrong error code", 0, in.readShort());
+		assertTrue("Wrong reply data", Arrays.equals(data, Arrays.copyOfRange(reply, 11, reply.length)));
+	}
+
+	/**
+	 * Small packets, which are sent uncompressed.
+	 */
+	public void testSmallPackets() throws IOException {
+		assertEcho(1, new byte[0]);
+		assertEcho(2, "small".getBytes(StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * Large packets, compressible or not, larger than a batch of the relay.
+	 */
+	public void testLargePackets() throws IOException {
+		byte[] text = new byte[1 << 20];
+		for (int i = 0; i < text.length; i++) {
+			text[i] = (byte) ('a' + i % 26);
+		}
+		assertEcho(1, text);
+		byte[] random = new byte[1 << 20];
+		new Random(0).nextBytes(random);
+		assertEcho(2, random);
+	}
+
+	/**
+	 * Reading from a closed connection fails as a closed connection, not with
+	 * a disposed decompressor.
+	 */
+	public void testClose() throws IOException {
+		assertEcho(1, new byte[0]);
+		fConnection.close();
+		assertFalse("Connection should be closed", fConnection.isOpen());
+		try {
+			fConnection.readPacket();
+			fail("Reading from a closed connection should fail");
+		} catch (ClosedConnectionException e) {
+			// expected
+		}
+		try {
+			fConnection.writePacket(command(2, new byte[0]));
+			fail("Writing to a closed connection should fail");
+		} catch (ClosedConnectionException e) {
+			// expected
+		}
+	}
+}
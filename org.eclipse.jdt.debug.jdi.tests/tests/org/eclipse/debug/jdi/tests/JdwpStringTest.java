@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+
+import org.eclipse.jdi.internal.jdwp.JdwpDataReader;
+import org.eclipse.jdi.internal.jdwp.JdwpString;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the decoding of JDWP strings from packet data.
+ */
+public class JdwpStringTest extends TestCase {
+
+	/**
+	 * Strings written in the JDWP format are read back unchanged.
+	 */
+	public void testReadWritten() throws IOException {
+		String[] strings = { "", "Ljava/lang/String;", "café", "€ \u0000 x" };
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		for (String string : strings) {
+			JdwpString.write(string, out);
+		}
+		JdwpDataReader reader = new JdwpDataReader(bytes.toByteArray());
+		for (String string : strings) {
+			assertEquals("Wrong string", string, reader.readString());
+		}
+		assertEquals("Data should be read", 0, reader.remaining());
+	}
+
+	/**
+	 * A character whose encoding is cut by the end of the string is rejected,
+	 * rather than decoded with the bytes that follow the string.
+	 */
+	public void testTruncatedCharacter() throws IOException {
+		assertTruncated(new byte[] { 0, 0, 0, 1, (byte) 0xC3, (byte) 0xA9 });
+		assertTruncated(new byte[] { 0, 0, 0, 2, (byte) 0xE2, (byte) 0x82, (byte) 0xAC });
+		assertTruncated(new byte[] { 0, 0, 0, 1, (byte) 0xC3 });
+	}
+
+	private void assertTruncated(byte[] data) throws IOException {
+		try {
+			new JdwpDataReader(data).readString();
+			fail("Truncated character should be rejected");
+		} catch (UTFDataFormatException e) {
+			// expected
+		}
+	}
+}
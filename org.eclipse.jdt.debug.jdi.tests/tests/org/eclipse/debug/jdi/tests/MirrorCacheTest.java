@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdi.internal.MirrorCache;
+import org.eclipse.jdi.internal.jdwp.JdwpID;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the cache of mirrors keyed by JDWP ids.
+ */
+public class MirrorCacheTest extends TestCase {
+
+	/**
+	 * @return Returns an id with the given value.
+	 */
+	private static JdwpID id(long value) {
+		return new JdwpID(null) {
+			{
+				fValue = value;
+			}
+
+			@Override
+			protected int getSize() {
+				return 8;
+			}
+
+			@Override
+			public boolean isNull() {
+				return fValue == VALUE_NULL;
+			}
+		};
+	}
+
+	/**
+	 * Cached mirrors are found by their id until removed or replaced.
+	 */
+	public void testPutGetRemove() {
+		MirrorCache<Object> cache = new MirrorCache<>();
+		String first = "first";
+		Integer second = Integer.valueOf(2);
+		cache.put(id(1), first);
+		cache.put(id(2), second);
+		assertSame("Wrong mirror 1", first, cache.get(id(1)));
+		assertSame("Wrong mirror 2", second, cache.get(id(2)));
+		assertNull("Unexpected mirror 3", cache.get(id(3)));
+		assertEquals("Wrong size", 2, cache.size());
+		assertEquals("Wrong values", 2, cache.values().size());
+		assertEquals("Wrong values of type", List.of(first), cache.valuesWithType(String.class));
+
+		String replacement = "replacement";
+		cache.put(id(1), replacement);
+		assertSame("Mirror 1 should be replaced", replacement, cache.get(id(1)));
+		assertEquals("Wrong size", 2, cache.size());
+		assertSame("Wrong removed mirror", second, cache.remove(id(2)));
+		assertNull("Mirror 2 should be removed", cache.get(id(2)));
+		assertNull("Mirror 2 should not be removed twice", cache.remove(id(2)));
+		assertEquals("Wrong size", 1, cache.size());
+	}
+
+	/**
+	 * Many mirrors with sequential ids, as the VM allocates them, are all
+	 * found.
+	 */
+	public void testManyIds() {
+		MirrorCache<Object> cache = new MirrorCache<>();
+		List<Object> mirrors = new ArrayList<>();
+		for (int i = 0; i < 10000; i++) {
+			Object mirror = new Object();
+			mirrors.add(mirror);
+			cache.put(id(i + 1), mirror);
+		}
+		assertEquals("Wrong size", mirrors.size(), cache.size());
+		for (int i = 0; i < mirrors.size(); i++) {
+			assertSame("Wrong mirror " + (i + 1), mirrors.get(i), cache.get(id(i + 1)));
+		}
+		for (int i = 0; i < mirrors.size(); i += 2) {
+			assertSame("Wrong removed mirror " + (i + 1), mirrors.get(i), cache.remove(id(i + 1)));
+		}
+		assertEquals("Wrong size", mirrors.size() / 2, cache.size());
+		for (int i = 0; i < mirrors.size(); i++) {
+			assertEquals("Wrong mirror " + (i + 1), i % 2 == 0 ? null : mirrors.get(i), cache.get(id(i + 1)));
+		}
+	}
+
+	/**
+	 * The entries of garbage collected mirrors are removed by the next put
+	 * or remove.
+	 */
+	public void testCollectedMirrors() {
+		MirrorCache<Object> cache = new MirrorCache<>();
+		Object kept = new Object();
+		cache.put(id(1), kept);
+		for (int i = 2; i <= 100; i++) {
+			cache.put(id(i), new Object());
+		}
+		assertEquals("Wrong size", 100, cache.size());
+
+		for (int i = 2; i <= 50; i++) {
+			cache.enqueue(id(i));
+		}
+		assertSame("Referenced mirror should be kept", kept, cache.get(id(1)));
+		for (int i = 2; i <= 50; i++) {
+			assertNull("Mirror " + i + " should be collected", cache.get(id(i)));
+		}
+		assertEquals("Wrong values", 51, cache.values().size());
+		assertEquals("Entries should be removed by the next put or remove", 100, cache.size());
+
+		cache.put(id(101), kept);
+		assertEquals("Entries of collected mirrors should be removed", 52, cache.size());
+		assertSame("Wrong mirror 101", kept, cache.get(id(101)));
+
+		cache.enqueue(id(51));
+		cache.put(id(51), kept);
+		assertSame("Replaced entry should not be removed", kept, cache.get(id(51)));
+		assertEquals("Wrong size", 52, cache.size());
+
+		cache.enqueue(id(52));
+		assertNull("Wrong removed mirror", cache.remove(id(200)));
+		assertEquals("Entries of collected mirrors should be removed", 51, cache.size());
+	}
+}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdi.internal.connect.PacketSendManager;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+
+import com.sun.jdi.connect.spi.ClosedConnectionException;
+import com.sun.jdi.connect.spi.Connection;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the order and rate in which the packets of the different priorities
+ * are sent.
+ */
+public class PacketSendManagerTest extends TestCase {
+
+	/**
+	 * Connection that records the ids of the packets written to it, and holds
+	 * back the first packet until released.
+	 */
+	static class RecordingConnection extends Connection {
+		final List<Integer> fIds = new ArrayList<>();
+		final List<Long> fTimes = new ArrayList<>();
+		final CountDownLatch fFirstWritten = new CountDownLatch(1);
+		final CountDownLatch fRelease = new CountDownLatch(1);
+		volatile boolean fOpen = true;
+
+		@Override
+		public byte[] readPacket() throws IOException {
+			throw new ClosedConnectionException();
+		}
+
+		@Override
+		public void writePacket(byte[] packet) throws IOException {
+			if (!fOpen) {
+				throw new ClosedConnectionException();
+			}
+			int id = ((packet[4] & 0xFF) << 24) | ((packet[5] & 0xFF) << 16) | ((packet[6] & 0xFF) << 8) | (packet[7] & 0xFF);
+			synchronized (this) {
+				fIds.add(Integer.valueOf(id));
+				fTimes.add(Long.valueOf(System.nanoTime()));
+				notifyAll();
+			}
+			fFirstWritten.countDown();
+			try {
+				fRelease.await();
+			} catch (InterruptedException e) {
+				throw new ClosedConnectionException();
+			}
+		}
+
+		@Override
+		public void close() {
+			fOpen = false;
+			fRelease.countDown();
+		}
+
+		@Override
+		public boolean isOpen() {
+			return fOpen;
+		}
+
+		/**
+		 * Waits until the given number of packets has been written.
+		 */
+		synchronized void waitForPackets(int count) throws InterruptedException {
+			long deadline = System.currentTimeMillis() + 10000;
+			long wait;
+			while (fIds.size() < count && (wait = deadline - System.currentTimeMillis()) > 0) {
+				wait(wait);
+			}
+			assertEquals("Packets were not written", count, fIds.size());
+		}
+	}
+
+	private RecordingConnection fConnection;
+	private PacketSendManager fManager;
+
+	@Override
+	protected void setUp() throws Exception {
+		fConnection = new RecordingConnection();
+		fManager = new PacketSendManager(fConnection);
+		Thread thread = new Thread(fManager, "Packet Send Manager Test");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fManager.disconnectVM();
+	}
+
+	/**
+	 * Sends a command with the given id at the given priority.
+	 */
+	private void send(int command, int id, int priority) {
+		int previous = PacketSendManager.setThreadPriority(priority);
+		try {
+			fManager.sendPacket(new JdwpCommandPacket(command, id));
+		} finally {
+			PacketSendManager.setThreadPriority(previous);
+		}
+	}
+
+	/**
+	 * Commands that resume threads and interactive requests overtake the
+	 * background requests queued before them.
+	 */
+	public void testControlOvertakesBackground() throws Exception {
+		send(JdwpCommandPacket.TR_NAME, 1, PacketSendManager.PRIORITY_INTERACTIVE);
+		assertTrue("First packet was not written", fConnection.fFirstWritten.await(10, TimeUnit.SECONDS));
+
+		send(JdwpCommandPacket.TR_NAME, 2, PacketSendManager.PRIORITY_BACKGROUND);
+		send(JdwpCommandPacket.TR_NAME, 3, PacketSendManager.PRIORITY_BACKGROUND);
+		send(JdwpCommandPacket.TR_NAME, 4, PacketSendManager.PRIORITY_INTERACTIVE);
+		// always sent with control priority
+		send(JdwpCommandPacket.VM_RESUME, 5, PacketSendManager.PRIORITY_BACKGROUND);
+		fConnection.fRelease.countDown();
+
+		fConnection.waitForPackets(5);
+		assertEquals("Wrong order", List.of(1, 5, 4, 2, 3), fConnection.fIds);
+	}
+
+	/**
+	 * Background requests are sent in a burst, then at a limited rate, while
+	 * interactive requests are not held back by them.
+	 */
+	public void testBackgroundRate() throws Exception {
+		fConnection.fRelease.countDown();
+		int count = 200;
+		long start = System.nanoTime();
+		for (int id = 1; id <= count; id++) {
+			send(JdwpCommandPacket.TR_NAME, id, PacketSendManager.PRIORITY_BACKGROUND);
+		}
+		send(JdwpCommandPacket.TR_NAME, count + 1, PacketSendManager.PRIORITY_INTERACTIVE);
+
+		fConnection.waitForPackets(count + 1);
+		long elapsed = fConnection.fTimes.get(count) - start;
+		// 50 packets at once, then 500 per second
+		assertTrue("Background packets were not rate limited: " + elapsed, elapsed >= TimeUnit.MILLISECONDS.toNanos(250));
+		int interactive = fConnection.fIds.indexOf(count + 1);
+		assertTrue("Interactive packet should overtake background packets: " + interactive, interactive < count);
+		List<Integer> background = new ArrayList<>(fConnection.fIds);
+		background.remove(Integer.valueOf(count + 1));
+		for (int i = 0; i < count; i++) {
+			assertEquals("Background packets should be sent in order", i + 1, background.get(i).intValue());
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,12 +15,17 @@ package org.eclipse.debug.jdi.tests;
 
 import static org.junit.Assert.assertNotEquals;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 
+import org.eclipse.jdi.internal.ReferenceTypeImpl;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+
+import com.sun.jdi.ClassType;
 import com.sun.jdi.Field;
 import com.sun.jdi.IntegerValue;
 import com.sun.jdi.Method;
@@ -180,6 +185,48 @@ public class ReferenceTypeTest extends AbstractJDITest {
 			}
 		}
 	}
+	/**
+	 * Test that flushing the stored Jdwp results of a type only flushes the
+	 * results its cached subtypes derive from it, directly or not, and
+	 * nothing of its supertypes.
+	 */
+	public void testJDIFlushStoredJdwpResults() {
+		VirtualMachineImpl vm = (VirtualMachineImpl) fVM;
+		ClassType mainClass = (ClassType) getMainClass();
+		ClassType date = mainClass.superclass();
+		ClassType object = date.superclass();
+		ReferenceType printable = getInterfaceType();
+		assertTrue("Printable not implemented", mainClass.interfaces().contains(printable));
+
+		List<Method> mainMethods = mainClass.methods();
+		List<Method> mainVisible = mainClass.visibleMethods();
+		List<Method> dateMethods = date.methods();
+		List<Method> dateVisible = date.visibleMethods();
+		List<Method> objectMethods = object.methods();
+		List<Method> printableMethods = printable.methods();
+		vm.flushStoredJdwpResults(Collections.singletonList((ReferenceTypeImpl) date));
+		assertNotSame("Methods of the flushed type kept", dateMethods, date.methods());
+		assertNotSame("Visible methods of the flushed type kept", dateVisible, date.visibleMethods());
+		assertSame("Methods of the subtype flushed", mainMethods, mainClass.methods());
+		assertNotSame("Visible methods of the subtype kept", mainVisible, mainClass.visibleMethods());
+		assertSame("Methods of the superclass flushed", objectMethods, object.methods());
+		assertSame("Methods of an interface of the subtype flushed", printableMethods, printable.methods());
+
+		mainVisible = mainClass.visibleMethods();
+		dateMethods = date.methods();
+		dateVisible = date.visibleMethods();
+		vm.flushStoredJdwpResults(Collections.singletonList((ReferenceTypeImpl) object));
+		assertSame("Methods of a subtype flushed", dateMethods, date.methods());
+		assertNotSame("Visible methods of a subtype kept", dateVisible, date.visibleMethods());
+		assertSame("Methods of an indirect subtype flushed", mainMethods, mainClass.methods());
+		assertNotSame("Visible methods of an indirect subtype kept", mainVisible, mainClass.visibleMethods());
+
+		mainVisible = mainClass.visibleMethods();
+		vm.flushStoredJdwpResults(Collections.singletonList((ReferenceTypeImpl) printable));
+		assertSame("Methods of an implementing class flushed", mainMethods, mainClass.methods());
+		assertNotSame("Visible methods of an implementing class kept", mainVisible, mainClass.visibleMethods());
+		assertSame("Methods of an unrelated type flushed", dateMethods, date.methods());
+	}
 	/**
 	 * Test JDI getValue(Field) and JDWP 'Type - Get Fields Values'.
 	 */
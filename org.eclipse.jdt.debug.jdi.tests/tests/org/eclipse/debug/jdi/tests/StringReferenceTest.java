@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.debug.jdi.tests;
 
+import org.eclipse.jdi.internal.StringReferenceImpl;
+
 import com.sun.jdi.StringReference;
 
 /**
@@ -58,4 +60,15 @@ public class StringReferenceTest extends AbstractJDITest {
 		String value = fString.value();
 		assertEquals("1", "Hello World", value);
 	}
+	/**
+	 * Test value(int), which reads strings by prefix.
+	 */
+	public void testJDIValuePrefix() {
+		StringReferenceImpl string = (StringReferenceImpl) getStringReference();
+		assertEquals("1", "Hello", string.value(5));
+		assertEquals("2", "Hello World", string.value(100));
+		assertEquals("3", "", string.value(0));
+		assertEquals("4", "Hello World", string.value());
+		assertEquals("5", "Hello Wo", string.value(8));
+	}
 }
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import java.util.Collections;
+
+import org.eclipse.jdi.internal.ThreadSnapshot;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+
+import com.sun.jdi.ClassType;
+import com.sun.jdi.Field;
+import com.sun.jdi.Method;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ThreadReference;
+
+/**
+ * Tests the snapshot of the state of the threads taken by
+ * {@link VirtualMachineImpl}.
+ */
+public class ThreadSnapshotTest extends AbstractJDITest {
+
+	private static final String RENAMED = "Renamed Thread";
+
+	private VirtualMachineImpl fVMImpl;
+	private ThreadReference fThread;
+	private Field fNameField;
+	private String fName;
+
+	/**
+	 * Creates a new test.
+	 */
+	public ThreadSnapshotTest() {
+		super();
+	}
+
+	/**
+	 * Init the fields that are used by this test only.
+	 */
+	@Override
+	public void localSetUp() {
+		fVMImpl = (VirtualMachineImpl) fVM;
+		fThread = getThread();
+		fNameField = ((ClassType) fThread.referenceType()).fieldByName("name");
+		fName = fThread.name();
+	}
+
+	/**
+	 * Make sure the test leaves the VM in the same state it found it.
+	 */
+	@Override
+	public void localTearDown() {
+		try {
+			fThread.setValue(fNameField, fVM.mirrorOf(fName));
+		} catch (Exception e) {
+			fail("Could not restore the thread name");
+		}
+	}
+
+	/**
+	 * Run all tests and output to standard output.
+	 * @param args
+	 */
+	public static void main(java.lang.String[] args) {
+		new ThreadSnapshotTest().runSuite(args);
+	}
+
+	/**
+	 * Gets the name of the test case.
+	 * @see junit.framework.TestCase#getName()
+	 */
+	@Override
+	public String getName() {
+		return "Thread snapshot";
+	}
+
+	/**
+	 * A requested snapshot is taken by the first query of a thread, which then
+	 * reads its state from the snapshot.
+	 */
+	public void testStateFromSnapshot() throws Exception {
+		int status = fThread.status();
+		int frameCount = fThread.frameCount();
+		fVMImpl.requestThreadSnapshot();
+		assertEquals("Wrong name", fName, fThread.name());
+		ThreadSnapshot snapshot = fVMImpl.threadSnapshot();
+		assertNotNull("Snapshot should be taken by the first query", snapshot);
+		assertTrue("Suspended thread should be in the snapshot", snapshot.isSuspended(fThread));
+
+		// setting a field does not change the state of the thread, the
+		// snapshot is kept
+		fThread.setValue(fNameField, fVM.mirrorOf(RENAMED));
+		assertEquals("Name should be read from the snapshot", fName, fThread.name());
+		assertEquals("Wrong status", status, fThread.status());
+		assertEquals("Wrong frame count", frameCount, fThread.frameCount());
+		assertTrue("Thread should be suspended", fThread.isSuspended());
+		assertSame("Snapshot should be kept", snapshot, fVMImpl.threadSnapshot());
+	}
+
+	/**
+	 * The snapshot is discarded when a thread invokes a method.
+	 */
+	public void testDiscardedOnInvoke() throws Exception {
+		fVMImpl.requestThreadSnapshot();
+		assertEquals("Wrong name", fName, fThread.name());
+		fThread.setValue(fNameField, fVM.mirrorOf(RENAMED));
+		Method getName = ((ClassType) fThread.referenceType()).concreteMethodByName("getName", "()Ljava/lang/String;");
+		fThread.invokeMethod(fThread, getName, Collections.emptyList(), ObjectReference.INVOKE_SINGLE_THREADED);
+		assertNull("Snapshot should be discarded", fVMImpl.threadSnapshot());
+		assertEquals("Name should be read from the VM", RENAMED, fThread.name());
+	}
+
+	/**
+	 * The snapshot is discarded when a thread resumes.
+	 */
+	public void testDiscardedOnResume() throws Exception {
+		fVMImpl.requestThreadSnapshot();
+		assertEquals("Wrong name", fName, fThread.name());
+		fThread.setValue(fNameField, fVM.mirrorOf(RENAMED));
+		fThread.suspend();
+		fThread.resume();
+		assertNull("Snapshot should be discarded", fVMImpl.threadSnapshot());
+		assertEquals("Name should be read from the VM", RENAMED, fThread.name());
+	}
+
+	/**
+	 * A requested snapshot is not taken once a thread has resumed.
+	 */
+	public void testRequestDiscardedOnResume() {
+		fVMImpl.requestThreadSnapshot();
+		fThread.suspend();
+		fThread.resume();
+		assertNull("Snapshot should not be taken", fVMImpl.threadSnapshot());
+	}
+}
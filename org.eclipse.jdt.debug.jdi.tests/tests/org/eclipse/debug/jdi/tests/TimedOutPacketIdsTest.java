@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.eclipse.jdi.internal.connect.TimedOutPacketIds;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the bounded set of timed out packet ids.
+ */
+public class TimedOutPacketIdsTest extends TestCase {
+
+	/**
+	 * Added ids are contained until removed.
+	 */
+	public void testAddRemove() {
+		TimedOutPacketIds ids = new TimedOutPacketIds(4, 1000);
+		assertTrue("Set should be empty", ids.isEmpty());
+		ids.add(1, 0);
+		ids.add(2, 0);
+		assertTrue("Missing id 1", ids.contains(1));
+		assertTrue("Missing id 2", ids.contains(2));
+		assertFalse("Unexpected id 3", ids.contains(3));
+		assertEquals("Wrong size", 2, ids.size());
+		assertTrue("Id 1 should be removed", ids.remove(1, 0));
+		assertFalse("Id 1 should not be removed twice", ids.remove(1, 0));
+		assertFalse("Id 1 should be removed", ids.contains(1));
+		assertTrue("Missing id 2", ids.contains(2));
+		assertEquals("Wrong size", 1, ids.size());
+	}
+
+	/**
+	 * Once the set is full, the oldest ids are evicted first.
+	 */
+	public void testCapacity() {
+		TimedOutPacketIds ids = new TimedOutPacketIds(4, 1000);
+		for (int id = 1; id <= 6; id++) {
+			ids.add(id, 0);
+		}
+		assertEquals("Wrong size", 4, ids.size());
+		assertFalse("Id 1 should be evicted", ids.contains(1));
+		assertFalse("Id 2 should be evicted", ids.contains(2));
+		for (int id = 3; id <= 6; id++) {
+			assertTrue("Missing id " + id, ids.contains(id));
+		}
+	}
+
+	/**
+	 * Ids are evicted once they are older than the maximum age, unless they
+	 * have been added again since.
+	 */
+	public void testMaxAge() {
+		TimedOutPacketIds ids = new TimedOutPacketIds(4, 100);
+		ids.add(1, 0);
+		ids.add(2, 0);
+		ids.add(3, 50);
+		ids.add(2, 60);
+		assertFalse("Unexpected id 4", ids.remove(4, 100));
+		assertEquals("Ids should not be evicted at their maximum age", 3, ids.size());
+		assertFalse("Unexpected id 4", ids.remove(4, 101));
+		assertFalse("Id 1 should be evicted", ids.contains(1));
+		assertTrue("Id 2 added again should not be evicted", ids.contains(2));
+		assertTrue("Missing id 3", ids.contains(3));
+		assertFalse("Unexpected id 4", ids.remove(4, 161));
+		assertTrue("Set should be empty", ids.isEmpty());
+	}
+
+	/**
+	 * Many ids, sequential as packet ids are, added and removed at random
+	 * stay in step with a reference set.
+	 */
+	public void testManyIds() {
+		int capacity = 1000;
+		TimedOutPacketIds ids = new TimedOutPacketIds(capacity, Long.MAX_VALUE);
+		BitSet expected = new BitSet();
+		Random random = new Random(0);
+		for (int id = 1; id <= 20000; id++) {
+			ids.add(id, 0);
+			expected.set(id);
+			if (id > capacity) {
+				expected.clear(id - capacity);
+			}
+			int removed = id - random.nextInt(2 * capacity);
+			if (removed > 0) {
+				assertEquals("Wrong removal of id " + removed, expected.get(removed), ids.remove(removed, 0));
+				expected.clear(removed);
+			}
+		}
+		assertEquals("Wrong size", expected.cardinality(), ids.size());
+		for (int id = 1; id <= 20000; id++) {
+			assertEquals("Wrong membership of id " + id, expected.get(id), ids.contains(id));
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import org.eclipse.jdi.internal.connect.UnixDomainTransportService;
+
+import com.sun.jdi.connect.spi.TransportService.ListenKey;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the socket files {@link UnixDomainTransportService} listens at.
+ */
+public class UnixDomainTransportServiceTest extends TestCase {
+
+	private Path fDirectory;
+
+	@Override
+	protected void setUp() throws Exception {
+		fDirectory = Files.createTempDirectory("jdwp");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		try (var files = Files.list(fDirectory)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(fDirectory);
+	}
+
+	/**
+	 * Listening at a temporary socket file in a private directory, which are
+	 * removed when listening stops.
+	 */
+	public void testListenAtTemporaryFile() throws IOException {
+		UnixDomainTransportService service = new UnixDomainTransportService();
+		ListenKey key = service.startListening();
+		Path path = Path.of(key.address());
+		Path directory = path.getParent();
+		try {
+			assertTrue("Socket file should exist", Files.exists(path));
+			if (Files.getFileAttributeView(directory, PosixFileAttributeView.class) != null) {
+				assertEquals("Directory should be private", PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(directory));
+			}
+		} finally {
+			service.stopListening(key);
+		}
+		assertFalse("Socket file should be removed", Files.exists(path));
+		assertFalse("Directory should be removed", Files.exists(directory));
+	}
+
+	/**
+	 * Listening at the path of a socket file left over by a previous session
+	 * replaces it.
+	 */
+	public void testListenAtStaleSocket() throws IOException {
+		Path path = fDirectory.resolve("stale.sock");
+		try (ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+			channel.bind(UnixDomainSocketAddress.of(path));
+		}
+		assertTrue("Stale socket file should exist", Files.exists(path));
+		UnixDomainTransportService service = new UnixDomainTransportService();
+		ListenKey key = service.startListening(path.toString());
+		service.stopListening(key);
+	}
+
+	/**
+	 * Listening at the path of a file which is not a socket fails and leaves
+	 * the file alone.
+	 */
+	public void testListenAtRegularFile() throws IOException {
+		Path path = fDirectory.resolve("data.txt");
+		Files.writeString(path, "data");
+		UnixDomainTransportService service = new UnixDomainTransportService();
+		try {
+			service.startListening(path.toString());
+			fail("Listening at a regular file should fail");
+		} catch (IOException e) {
+			// expected
+		}
+		assertEquals("Regular file should be left alone", "data", Files.readString(path));
+	}
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+public class MethodEntryBreakpoints18 {
+
+	interface Callee {
+		default void step() {
+		}
+
+		static void stepStatically() {
+		}
+
+		default void defaultTarget() {
+		}
+
+		static void staticTarget() {
+		}
+	}
+
+	static class Base {
+		void inheritedTarget() {
+		}
+	}
+
+	static class Inner extends Base implements Callee {
+		void stepInner() {
+		}
+
+		void innerTarget(Inner inner) {
+		}
+	}
+
+	public static void main(String[] args) {
+		Inner inner = new Inner();
+		// many methods are entered in each type before its target method
+		for (int i = 0; i < 10000; i++) {
+			inner.step();
+			Callee.stepStatically();
+			inner.stepInner();
+		}
+		inner.defaultTarget();
+		Callee.staticTarget();
+		inner.innerTarget(inner);
+		inner.inheritedTarget();
+	}
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class ConditionalDispatchTest {
+
+	/**
+	 * More threads than event sets are held pending by the debugger
+	 */
+	static final int THREADS = 300;
+
+	static final int HITS = 2;
+
+	/**
+	 * Number of evaluations held back until a later one runs, as many as the
+	 * debugger runs dispatch jobs
+	 */
+	static final int HELD = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	static final Map<Thread, Integer> lastHits = new HashMap<Thread, Integer>();
+
+	static int evaluations = 0;
+
+	static boolean outOfOrder = false;
+
+	static boolean stalled = false;
+
+	/**
+	 * Called by the condition of the breakpoint in run(), records the hits of
+	 * each thread.
+	 */
+	static synchronized boolean evaluate(int hit) {
+		Integer last = lastHits.put(Thread.currentThread(), Integer.valueOf(hit));
+		if (hit != (last == null ? 0 : last.intValue() + 1)) {
+			outOfOrder = true;
+		}
+		evaluations++;
+		if (evaluations <= HELD) {
+			long deadline = System.currentTimeMillis() + 10000;
+			long wait;
+			while (evaluations <= HELD && (wait = deadline - System.currentTimeMillis()) > 0) {
+				try {
+					ConditionalDispatchTest.class.wait(wait);
+				} catch (InterruptedException e) {
+					break;
+				}
+			}
+			if (evaluations <= HELD) {
+				stalled = true;
+			}
+		} else {
+			ConditionalDispatchTest.class.notifyAll();
+		}
+		return false;
+	}
+
+	static void run() {
+		for (int hit = 0; hit < HITS; hit++) {
+			Thread.yield(); // conditional breakpoint here: evaluate(hit)
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		Thread[] threads = new Thread[THREADS];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					ConditionalDispatchTest.run();
+				}
+			}, "dispatch-" + i);
+			threads[i].start();
+		}
+		for (int i = 0; i < threads.length; i++) {
+			threads[i].join();
+		}
+		int count;
+		boolean ordered;
+		boolean progressed;
+		synchronized (ConditionalDispatchTest.class) {
+			count = evaluations;
+			ordered = !outOfOrder;
+			progressed = !stalled;
+		}
+		System.out.println(count + " " + ordered + " " + progressed); // breakpoint here
+	}
+
+}
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+public class PrefetchedValues {
+
+	volatile int counter = 1;
+
+	public static void main(String[] args) throws Exception {
+		final PrefetchedValues values = new PrefetchedValues();
+		Thread changer = new Thread("changer") {
+			@Override
+			public void run() {
+				try {
+					Thread.sleep(3000);
+				} catch (InterruptedException e) {
+				}
+				// changed while the main thread is suspended
+				values.counter = 2;
+			}
+		};
+		changer.start();
+		System.out.println(values.counter); // breakpoint here
+		changer.join();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2011 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import org.eclipse.jdt.debug.tests.performance.PerfBreakpointTests;
 import org.eclipse.jdt.debug.tests.performance.PerfConditionalBreakpointsTests;
 import org.eclipse.jdt.debug.tests.performance.PerfConsoleTests;
 import org.eclipse.jdt.debug.tests.performance.PerfContextualLaunchMenu;
+import org.eclipse.jdt.debug.tests.performance.PerfMethodBreakpointTests;
 import org.eclipse.jdt.debug.tests.performance.PerfSteppingTests;
 import org.eclipse.jdt.debug.tests.performance.PerfVariableDetailTests;
 
@@ -46,6 +47,7 @@ public class PerformanceSuite extends DebugSuite {
         addTest(new TestSuite(PerfContextualLaunchMenu.class));
         addTest(new TestSuite(PerfBreakpointTests.class));
         addTest(new TestSuite(PerfConditionalBreakpointsTests.class));
+        addTest(new TestSuite(PerfMethodBreakpointTests.class));
         addTest(new TestSuite(PerfSteppingTests.class));
         addTest(new TestSuite(PerfConsoleTests.class));
         addTest(new TestSuite(PerfVariableDetailTests.class));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -477,4 +477,59 @@ public class MethodBreakpointTests extends AbstractDebugTest {
 			}
 		}
 	}
+
+	/**
+	 * Tests that entry breakpoints on default and static interface methods, and
+	 * on a method whose signature names an inner type with '.', are hit.
+	 */
+	public void testInterfaceAndInnerTypeMethodsHit() throws Exception {
+		String typeName = "MethodEntryBreakpoints18";
+		IJavaProject project = get18Project();
+		List<IJavaMethodBreakpoint> bps = new ArrayList<>();
+		bps.add(createMethodBreakpoint(project, typeName + "$Callee", "defaultTarget", "()V", true, false));
+		bps.add(createMethodBreakpoint(project, typeName + "$Callee", "staticTarget", "()V", true, false));
+		bps.add(createMethodBreakpoint(project, typeName + "$Inner", "innerTarget", "(L" + typeName + ".Inner;)V", true, false));
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(project, typeName);
+			for (IJavaMethodBreakpoint bp : bps) {
+				assertNotNull("Breakpoint not hit within timeout period", thread);
+				assertEquals("Wrong breakpoint hit", bp, getBreakpoint(thread));
+				assertEquals("Wrong method", bp.getMethodName(), thread.getTopStackFrame().getName());
+				if (bp != bps.get(bps.size() - 1)) {
+					thread = resume(thread);
+				}
+			}
+			resumeAndExit(thread);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that an entry breakpoint on a type is not hit when a method the
+	 * type inherits is entered, like a method entry request filtered on the
+	 * type, while a breakpoint on the declaring type is.
+	 */
+	public void testInheritedMethodNotHit() throws Exception {
+		String typeName = "MethodEntryBreakpoints18";
+		IJavaProject project = get18Project();
+		createMethodBreakpoint(project, typeName + "$Inner", "inheritedTarget", "()V", true, false);
+		IJavaMethodBreakpoint declared = createMethodBreakpoint(project, typeName + "$Base", "inheritedTarget", "()V", true, false);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(project, typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IBreakpoint[] hit = thread.getBreakpoints();
+			assertEquals("Only the breakpoint on the declaring type should be hit", 1, hit.length);
+			assertEquals("Wrong breakpoint hit", declared, hit[0]);
+			resumeAndExit(thread);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
 }
@@ -61,6 +61,8 @@ public class MultipleConnectionsTest extends AbstractDebugTest {
 		Map<String, Connector.Argument> defaults = connector.getDefaultArguments();
 		assertTrue(defaults.containsKey("connectionLimit"));
 		assertEquals(1, ((Connector.IntegerArgument) defaults.get("connectionLimit")).intValue());
+		assertTrue(defaults.containsKey("niochannels"));
+		assertFalse(((Connector.BooleanArgument) defaults.get("niochannels")).booleanValue());
 	}
 
 	/**
@@ -138,6 +140,25 @@ public class MultipleConnectionsTest extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Ensure connections are accepted when NIO socket channels are used
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testNioChannelsBehaviour() throws CoreException, InterruptedException {
+		connector = new SocketListenConnector();
+		Map<String, String> arguments = new HashMap<>();
+		arguments.put("port", Integer.toString(port));
+		arguments.put("connectionLimit", "2");
+		arguments.put("niochannels", "true");
+		connector.connect(arguments, new NullProgressMonitor(), launch);
+		Thread.sleep(200);
+
+		assertTrue("first connect should succeed", connect());
+		assertTrue("second connect should succeed", connect());
+	}
+
 	@Override
 	@After
 	protected void tearDown() throws Exception {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,13 +19,16 @@ import org.eclipse.debug.core.model.ILineBreakpoint;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaArrayType;
+import org.eclipse.jdt.debug.core.IJavaBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
 
 /**
  * Tests indexed collection API
@@ -647,4 +650,90 @@ public class ArrayTests extends AbstractDebugTest {
 			removeAllBreakpoints();
 		}
 	}
+
+	/**
+	 * Tests that the variables of a large array are paged in chunks, that only
+	 * a bounded number of chunks is kept, and that they are dropped once the
+	 * array is modified.
+	 */
+	public void testChunkedVariables() throws Exception {
+		String typeName = "ArrayChunks";
+		IJavaLineBreakpoint bp = createLineBreakpoint(22, typeName);
+		// chunks are only kept while no thread runs
+		bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_VM);
+
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull(frame);
+			IJavaVariable v = findVariable(frame, "array");
+			assertNotNull(v);
+			JDIArrayValue array = (JDIArrayValue) v.getValue();
+			assertEquals("Array has wrong size", 20000, array.getSize());
+			assertEquals("No chunk should be kept yet", 0, array.getChunkCount());
+
+			assertValues(array, 0, 100);
+			assertEquals("Wrong number of chunks", 1, array.getChunkCount());
+			assertValues(array, 100, 100);
+			assertEquals("Wrong number of chunks", 1, array.getChunkCount());
+			assertValues(array, 950, 100);
+			assertEquals("Wrong number of chunks", 2, array.getChunkCount());
+
+			for (int i = 0; i < 20000; i += 1000) {
+				assertValues(array, i, 1);
+			}
+			assertEquals("Too many chunks kept", 16, array.getChunkCount());
+
+			IJavaDebugTarget target = (IJavaDebugTarget) frame.getDebugTarget();
+			array.setValue(5, target.newValue(-5));
+			assertEquals("Chunks should be dropped after setValue", 0, array.getChunkCount());
+			assertEquals("Wrong value after setValue", "-5", array.getVariables(0, 10)[5].getValue().getValueString());
+
+			array.setValues(0, 2, new IJavaValue[] { target.newValue(-1), target.newValue(-2) }, 0);
+			assertEquals("Chunks should be dropped after setValues", 0, array.getChunkCount());
+			IVariable[] variables = array.getVariables(0, 3);
+			assertEquals("Wrong value after setValues", "-1", variables[0].getValue().getValueString());
+			assertEquals("Wrong value after setValues", "-2", variables[1].getValue().getValueString());
+			assertEquals("Wrong value after setValues", "2", variables[2].getValue().getValueString());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that no chunk is kept while other threads of the target run.
+	 */
+	public void testNoChunksWhileThreadsRun() throws Exception {
+		String typeName = "ArrayChunks";
+		IJavaLineBreakpoint bp = createLineBreakpoint(22, typeName);
+		bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_THREAD);
+
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull(frame);
+			IJavaVariable v = findVariable(frame, "array");
+			assertNotNull(v);
+			JDIArrayValue array = (JDIArrayValue) v.getValue();
+			assertValues(array, 950, 100);
+			assertEquals("No chunk should be kept", 0, array.getChunkCount());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Checks that the variables of the given range hold their index.
+	 */
+	private void assertValues(JDIArrayValue array, int offset, int length) throws Exception {
+		IVariable[] variables = array.getVariables(offset, length);
+		assertEquals("Wrong number of variables", length, variables.length);
+		for (int i = 0; i < length; i++) {
+			assertEquals("Wrong value", Integer.toString(offset + i), variables[i].getValue().getValueString());
+		}
+	}
 }
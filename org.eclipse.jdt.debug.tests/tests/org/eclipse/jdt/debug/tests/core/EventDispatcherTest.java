@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2017 salesforce.com.
+ *  Copyright (c) 2017, 2026 salesforce.com.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -27,9 +27,11 @@ import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.internal.debug.core.EventDispatcher.AbstractDispatchJob;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 
 public class EventDispatcherTest extends AbstractDebugTest {
@@ -129,4 +131,80 @@ public class EventDispatcherTest extends AbstractDebugTest {
 		assertEquals("Unexpected number of event dispatching jobs: " + jobs.size() + " | " + jobs.keySet(), 2, jobs.size());
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Tests that event sets for conditional breakpoints hit by many threads are
+	 * dispatched in order for each thread, by a bounded number of concurrent
+	 * jobs, and that all of them are dispatched while reading events is held
+	 * back and while all jobs wait for the evaluation of a pending event set.
+	 *
+	 * @throws Exception
+	 */
+	public void testConditionalExpressionEventDispatchingManyThreads() throws Exception {
+		String typeName = "ConditionalDispatchTest";
+		// same bound as the event dispatcher, the test program holds back as many evaluations
+		int maxJobs = Math.max(2, Runtime.getRuntime().availableProcessors());
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		JobChangeAdapter runningListener = new JobChangeAdapter() {
+			@Override
+			public void aboutToRun(IJobChangeEvent event) {
+				if (event.getJob() instanceof AbstractDispatchJob) {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				}
+			}
+
+			@Override
+			public void done(IJobChangeEvent event) {
+				if (event.getJob() instanceof AbstractDispatchJob) {
+					running.decrementAndGet();
+				}
+			}
+		};
+		createConditionalLineBreakpoint(72, typeName, "return evaluate(hit);", true);
+		IJavaLineBreakpoint breakpoint = createLineBreakpoint(98, typeName);
+		IJavaThread thread = null;
+		try {
+			Job.getJobManager().addJobChangeListener(runningListener);
+			thread = launchToLineBreakpoint(typeName, breakpoint);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull("Missing top frame", frame);
+			assertEquals("Wrong location", breakpoint.getLineNumber(), frame.getLineNumber());
+			assertEquals("Unexpected number of evaluations", "600", findVariable(frame, "count").getValue().getValueString());
+			assertEquals("Event sets of a thread dispatched out of order", "true", findVariable(frame, "ordered").getValue().getValueString());
+			assertEquals("Event set not dispatched while dispatch jobs wait", "true", findVariable(frame, "progressed").getValue().getValueString());
+		}
+		finally {
+			Job.getJobManager().removeJobChangeListener(runningListener);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+		// the jobs started as the running ones wait are bounded as well, plus the one dispatching the class prepare event
+		assertTrue("Too many concurrent event dispatching jobs: " + maxRunning.get(), maxRunning.get() <= maxJobs * 2 + 1);
+	}
+
+	/**
+	 * Tests that the listeners registered with the event dispatcher are counted
+	 * per kind of event request.
+	 *
+	 * @throws Exception
+	 */
+	public void testHandlerCounts() throws Exception {
+		String typeName = "BreakpointListenerTest";
+		IJavaLineBreakpoint breakpoint = createLineBreakpoint(20, typeName);
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, breakpoint);
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			Map<String, Integer> counts = target.getEventDispatcher().getHandlerCounts();
+			Integer breakpoints = counts.get("BreakpointRequest");
+			assertNotNull("Missing breakpoint request listeners: " + counts, breakpoints);
+			assertTrue("Unexpected number of breakpoint request listeners: " + counts, breakpoints.intValue() >= 1);
+			assertTrue("Missing thread start request listeners: " + counts, counts.containsKey("ThreadStartRequest"));
+		}
+		finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+}
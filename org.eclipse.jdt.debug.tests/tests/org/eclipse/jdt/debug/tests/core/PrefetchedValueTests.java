@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import org.eclipse.debug.core.model.IThread;
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaVariable;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests that the values of variables retrieved in a batch along with their
+ * siblings are only used for a single read, since threads that keep running
+ * while the target is suspended may change them.
+ */
+public class PrefetchedValueTests extends AbstractDebugTest {
+
+	public PrefetchedValueTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Reads a field changed by a running thread after the fields of its object
+	 * have been prefetched.
+	 *
+	 * @throws Exception
+	 */
+	public void testPrefetchedFieldValue() throws Exception {
+		String typeName = "PrefetchedValues";
+		IJavaLineBreakpoint breakpoint = createLineBreakpoint(33, typeName);
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, breakpoint);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			IJavaVariable values = findVariable(frame, "values");
+			assertNotNull("Could not find variable 'values'", values);
+			// prefetches the fields of the object
+			IVariable counter = findField(values.getValue().getVariables(), "counter");
+
+			waitForThreadDeath((IJavaDebugTarget) thread.getDebugTarget(), "changer");
+			assertEquals("The first read should use the prefetched value", "1", counter.getValue().getValueString());
+			assertEquals("Later reads should retrieve the current value", "2", counter.getValue().getValueString());
+			assertEquals("Later reads should retrieve the current value", "2", counter.getValue().getValueString());
+
+			// prefetched again
+			counter = findField(values.getValue().getVariables(), "counter");
+			assertEquals("Wrong prefetched value", "2", counter.getValue().getValueString());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * A prefetched value is not used once a variable has been modified.
+	 *
+	 * @throws Exception
+	 */
+	public void testPrefetchedValueAfterModification() throws Exception {
+		String typeName = "PrefetchedValues";
+		IJavaLineBreakpoint breakpoint = createLineBreakpoint(33, typeName);
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, breakpoint);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			IJavaVariable values = findVariable(frame, "values");
+			assertNotNull("Could not find variable 'values'", values);
+			IVariable counter = findField(values.getValue().getVariables(), "counter");
+			counter.setValue("3");
+			assertEquals("Modified value should be retrieved", "3", counter.getValue().getValueString());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	private IVariable findField(IVariable[] variables, String name) throws Exception {
+		for (IVariable variable : variables) {
+			if (name.equals(variable.getName())) {
+				return variable;
+			}
+		}
+		fail("Could not find field '" + name + "'");
+		return null;
+	}
+
+	/**
+	 * Waits until the thread with the given name has terminated.
+	 */
+	private void waitForThreadDeath(IJavaDebugTarget target, String name) throws Exception {
+		long timeout = System.currentTimeMillis() + DEFAULT_TIMEOUT;
+		while (System.currentTimeMillis() < timeout) {
+			boolean alive = false;
+			for (IThread thread : target.getThreads()) {
+				if (name.equals(thread.getName())) {
+					alive = true;
+				}
+			}
+			if (!alive) {
+				return;
+			}
+			Thread.sleep(100);
+		}
+		fail("Thread '" + name + "' did not terminate");
+	}
+}
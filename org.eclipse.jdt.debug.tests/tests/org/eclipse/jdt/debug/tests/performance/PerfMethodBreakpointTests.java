@@ -0,0 +1,126 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests performance of launching to method entry breakpoints on the kinds of
+ * methods that are installed as a breakpoint request on the first instruction
+ * of the method rather than as a method entry request: default and static
+ * methods of interfaces, and methods whose signature names an inner type.
+ * <p>
+ * <code>MethodEntryBreakpoints18</code> enters 10000 other methods in each
+ * type before the method the breakpoint is set on. A method entry request
+ * filtered on the type would send an event for each of them, all but one
+ * filtered out by the breakpoint, whereas the breakpoint request sends a
+ * single event. The number of events received from the VM is checked for
+ * this.
+ * </p>
+ */
+public class PerfMethodBreakpointTests extends AbstractDebugPerformanceTest {
+
+    private String fTypeName = "MethodEntryBreakpoints18";
+
+    /**
+     * Number of other methods entered in each type before the breakpoint
+     */
+    private int fSteps = 10000;
+
+    private int fWarmUpRuns = 2;
+
+    private int fMeasuredRuns = 10;
+
+    /**
+     * Constructor
+     * @param name
+     */
+    public PerfMethodBreakpointTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Tests the performance of launching to a method entry breakpoint on a default interface method
+     * @throws Exception
+     */
+    public void testDefaultMethodEntryBreakpoint() throws Exception {
+        tagAsSummary("Method Entry Breakpoint on Default Method", Dimension.ELAPSED_PROCESS);
+        launchToMethodEntryBreakpoint(fTypeName + "$Callee", "defaultTarget", "()V");
+    }
+
+    /**
+     * Tests the performance of launching to a method entry breakpoint on a static interface method
+     * @throws Exception
+     */
+    public void testStaticInterfaceMethodEntryBreakpoint() throws Exception {
+        tagAsSummary("Method Entry Breakpoint on Static Interface Method", Dimension.ELAPSED_PROCESS);
+        launchToMethodEntryBreakpoint(fTypeName + "$Callee", "staticTarget", "()V");
+    }
+
+    /**
+     * Tests the performance of launching to a method entry breakpoint on a method whose
+     * signature names an inner type with '.'
+     * @throws Exception
+     */
+    public void testInnerTypeSignatureMethodEntryBreakpoint() throws Exception {
+        tagAsSummary("Method Entry Breakpoint on Inner Type Signature", Dimension.ELAPSED_PROCESS);
+        launchToMethodEntryBreakpoint(fTypeName + "$Inner", "innerTarget", "(L" + fTypeName + ".Inner;)V");
+    }
+
+    /**
+     * Repeatedly launches to a method entry breakpoint, measuring the time until the
+     * breakpoint is hit, and checks that the VM did not send an event per method entered
+     * in the type.
+     *
+     * @param typeName the type of the breakpoint
+     * @param methodName the method of the breakpoint
+     * @param methodSignature the signature of the method
+     * @throws Exception
+     */
+    private void launchToMethodEntryBreakpoint(String typeName, String methodName, String methodSignature) throws Exception {
+        IJavaProject project = get18Project();
+        // just in case
+        removeAllBreakpoints();
+        try {
+            for (int i = 0; i < fWarmUpRuns + fMeasuredRuns; i++) {
+                createMethodBreakpoint(project, typeName, methodName, methodSignature, true, false);
+                boolean measure = i >= fWarmUpRuns;
+                if (measure) {
+                    System.gc();
+                    startMeasuring();
+                }
+                IJavaThread thread = launchToBreakpoint(project, fTypeName, false);
+                if (measure) {
+                    stopMeasuring();
+                }
+                try {
+                    assertNotNull("Breakpoint not hit within timeout period", thread);
+                    assertEquals("Wrong method", methodName, thread.getTopStackFrame().getName());
+                    long events = ((JDIDebugTarget) thread.getDebugTarget()).getEventDispatcher().getReceivedEventCount();
+                    assertTrue("An event was received per method entered: " + events, events < fSteps);
+                } finally {
+                    terminateAndRemove(thread);
+                }
+            }
+            commitMeasurements();
+            assertPerformance();
+        } finally {
+            removeAllBreakpoints();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -77,6 +77,7 @@ import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListEntryVariable;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListVariable;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
 import org.eclipse.jdt.internal.debug.ui.breakpoints.SuspendOnUncaughtExceptionListener;
 import org.eclipse.jdt.internal.debug.ui.display.JavaInspectExpression;
 import org.eclipse.jdt.internal.debug.ui.monitors.JavaContendedMonitor;
@@ -141,6 +142,12 @@ public class JDIModelPresentation extends LabelProvider implements IDebugModelPr
 
 	protected static final String fgStringName= "java.lang.String"; //$NON-NLS-1$
 
+	/**
+	 * Maximum number of characters of a string shown in its label. Longer strings
+	 * are only retrieved by prefix, their complete value is shown in the detail pane.
+	 */
+	private static final int MAX_STRING_LABEL_LENGTH= 1000;
+
 	/******
 	 * This constant is here for experimental purposes only and should not be used.
 	 * It is used to store a suffix for a breakpoint's label in its marker.
@@ -464,8 +471,16 @@ public class JDIModelPresentation extends LabelProvider implements IDebugModelPr
 	 */
 	public String getValueText(IJavaValue value) throws DebugException {
 		String refTypeName= value.getReferenceTypeName();
-		String valueString= value.getValueString();
 		boolean isString= refTypeName.equals(fgStringName);
+		String valueString;
+		if (isString && value instanceof JDIValue) {
+			valueString= ((JDIValue) value).getValueString(MAX_STRING_LABEL_LENGTH + 1);
+			if (valueString != null && valueString.length() > MAX_STRING_LABEL_LENGTH) {
+				valueString= valueString.substring(0, MAX_STRING_LABEL_LENGTH) + "..."; //$NON-NLS-1$
+			}
+		} else {
+			valueString= value.getValueString();
+		}
 		IJavaType type= value.getJavaType();
 		String signature= null;
 		if (type != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui;
 
+import java.lang.reflect.Array;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -55,6 +56,7 @@ import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
 import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIAllInstancesValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
 import org.eclipse.jdt.internal.debug.core.model.JDINullValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListValue;
 import org.eclipse.jface.util.IPropertyChangeListener;
@@ -699,6 +701,18 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				length = arrayValue.getLength();
 				if (maxLength > 0 && length > maxEntries) {
 					partial = true;
+				}
+				if (arrayValue instanceof JDIArrayValue && length > 0) {
+					// components of primitive type are read in bulk, without a value per component
+					Object primitiveValues = ((JDIArrayValue) arrayValue).getPrimitiveValues(0, partial ? maxEntries : length);
+					if (primitiveValues != null) {
+						appendPrimitiveArrayDetail(result, primitiveValues, partial, maxLength);
+						return;
+					}
+				}
+				if (arrayValue instanceof JDIArrayValue) {
+					arrayValues = ((JDIArrayValue) arrayValue).getValues(0, partial ? maxEntries : length);
+				} else if (partial) {
 					IVariable[] variables = arrayValue.getVariables(0, maxEntries);
 					arrayValues = new IJavaValue[variables.length];
 					for (int i = 0; i < variables.length; i++) {
@@ -735,6 +749,43 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 			}
 		}
 
+		/*
+		 * Appends the components of an array of primitive type, formatted as the value strings of the
+		 * corresponding values would be. See #appendArrayDetail(StringBuilder, IJavaArray).
+		 */
+		private void appendPrimitiveArrayDetail(StringBuilder result, Object values, boolean partial, int maxLength) {
+			int length = Array.getLength(values);
+			for (int i = 0; i < length; i++) {
+				if (values instanceof int[]) {
+					result.append(((int[]) values)[i]);
+				} else if (values instanceof byte[]) {
+					result.append(((byte[]) values)[i]);
+				} else if (values instanceof long[]) {
+					result.append(((long[]) values)[i]);
+				} else if (values instanceof char[]) {
+					result.append(((char[]) values)[i]);
+				} else if (values instanceof boolean[]) {
+					result.append(((boolean[]) values)[i]);
+				} else if (values instanceof short[]) {
+					result.append(((short[]) values)[i]);
+				} else if (values instanceof float[]) {
+					result.append(((float[]) values)[i]);
+				} else {
+					result.append(((double[]) values)[i]);
+				}
+				if (i < length - 1) {
+					result.append(',');
+					result.append(' ');
+				}
+				if (partial && result.length() > maxLength) {
+					break;
+				}
+			}
+			if (!partial) {
+				result.append(']');
+			}
+		}
+
 		protected void appendJDIPrimitiveValueString(StringBuilder result, IJavaValue value) throws DebugException {
 			result.append(value.getValueString());
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,8 @@ import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.ui.IJavaDebugUIConstants;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget.BackgroundPriority;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPreferenceInitializer;
 import org.eclipse.jface.preference.IPreferenceStore;
@@ -228,11 +230,15 @@ public class ThreadMonitorManager implements IDebugEventSetListener, IPropertyCh
 	class RefreshAndDetectDeadlock extends DetectDeadlock {
 		@Override
 		public void run() {
-			JavaMonitorThread[] threads= getJavaMonitorThreads();
-			for (int i = 0; i < threads.length; i++) {
-				threads[i].refresh();
+			// the monitor information is refreshed in the background of
+			// stepping and must not delay it
+			try (BackgroundPriority scope = JDIDebugTarget.backgroundPriority()) {
+				JavaMonitorThread[] threads= getJavaMonitorThreads();
+				for (int i = 0; i < threads.length; i++) {
+					threads[i].refresh();
+				}
+				super.run();
 			}
-			super.run();
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,8 @@ import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget.BackgroundPriority;
 import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 import org.eclipse.jdt.internal.debug.ui.DebugUIMessages;
@@ -179,7 +181,11 @@ public class JavaVariableLabelProvider extends VariableLabelProvider implements
 				}
 				if (jType instanceof IJavaReferenceType) {
 					if (!(jType instanceof IJavaInterfaceType)) {
-						long count = ((IJavaReferenceType)jType).getInstanceCount();
+						long count;
+						// instance counts are a decoration, don't let them delay stepping
+						try (BackgroundPriority scope = JDIDebugTarget.backgroundPriority()) {
+							count = ((IJavaReferenceType) jType).getInstanceCount();
+						}
 						if (count == -1) {
 							return DebugUIMessages.JavaVariableLabelProvider_0;
 						}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,8 +20,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpDataReader;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
@@ -32,6 +34,7 @@ import com.sun.jdi.InternalException;
 import com.sun.jdi.InvalidTypeException;
 import com.sun.jdi.Mirror;
 import com.sun.jdi.ObjectCollectedException;
+import com.sun.jdi.PrimitiveValue;
 import com.sun.jdi.Type;
 import com.sun.jdi.Value;
 
@@ -97,41 +100,19 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 	public List<Value> getValues(int firstIndex, int length)
 			throws IndexOutOfBoundsException {
 
-		int arrayLength = length();
-
-		if (firstIndex < 0 || firstIndex >= arrayLength) {
-			throw new IndexOutOfBoundsException(
-					JDIMessages.ArrayReferenceImpl_Invalid_index_1);
-		}
-
-		if (length == -1) {
-			// length == -1 means all elements to the end.
-			length = arrayLength - firstIndex;
-		} else if (length < -1) {
-			throw new IndexOutOfBoundsException(
-					JDIMessages.ArrayReferenceImpl_Invalid_number_of_value_to_get_from_array_1);
-		} else if (firstIndex + length > arrayLength) {
-			throw new IndexOutOfBoundsException(
-					JDIMessages.ArrayReferenceImpl_Attempted_to_get_more_values_from_array_than_length_of_array_2);
-		}
+		length = regionLength(firstIndex, length);
 
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			write(this, outData); // arrayObject
-			writeInt(firstIndex, "firstIndex", outData); //$NON-NLS-1$
-			writeInt(length, "length", outData); //$NON-NLS-1$
+			JdwpReplyPacket replyPacket = requestValues(firstIndex, length);
 
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.AR_GET_VALUES, outBytes);
-			switch (replyPacket.errorCode()) {
-			case JdwpReplyPacket.INVALID_INDEX:
-				throw new IndexOutOfBoundsException(
-						JDIMessages.ArrayReferenceImpl_Invalid_index_of_array_reference_given_1);
+			if (fVerboseWriter == null) {
+				List<Value> values = readPrimitiveSequence(replyPacket.dataReader());
+				if (values != null) {
+					return values;
+				}
 			}
-			defaultReplyErrorHandler(replyPacket.errorCode());
 
 			DataInputStream replyData = replyPacket.dataInStream();
 
@@ -182,6 +163,315 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 		}
 	}
 
+	/**
+	 * Gets a range of the components of an array of primitive type, decoded
+	 * straight into a Java array of that type, without creating a mirror per
+	 * component.
+	 *
+	 * @param firstIndex
+	 *            the start
+	 * @param length
+	 *            the number of components to return, or -1 for all
+	 *            components to the end of the array
+	 * @return a <code>boolean[]</code>, <code>byte[]</code>,
+	 *         <code>char[]</code>, <code>short[]</code>, <code>int[]</code>,
+	 *         <code>long[]</code>, <code>float[]</code> or
+	 *         <code>double[]</code> holding the components, or
+	 *         <code>null</code> if the components are object references
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is outside the bounds of the array
+	 */
+	public Object getPrimitiveValues(int firstIndex, int length)
+			throws IndexOutOfBoundsException {
+		String signature = ((ArrayTypeImpl) referenceType()).componentSignature();
+		if (signature.length() != 1) {
+			return null;
+		}
+
+		if (fVerboseWriter != null) {
+			// the reader has no verbose output
+			return toPrimitiveArray(getValues(firstIndex, length), signature.charAt(0));
+		}
+
+		length = regionLength(firstIndex, length);
+
+		// Note that this information should not be cached.
+		initJdwpRequest();
+		try {
+			JdwpReplyPacket replyPacket = requestValues(firstIndex, length);
+			JdwpDataReader in = replyPacket.dataReader();
+			return readPrimitiveArray(in);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Gets the first components of an array of primitive type, like
+	 * {@link #getPrimitiveValues(int, int)}. When the length of the array is
+	 * not known yet, it is requested together with the components, so that
+	 * this takes a single round trip to the VM.
+	 *
+	 * @param length
+	 *            the number of components to return
+	 * @return Returns the first <code>length</code> components, or
+	 *         <code>null</code> if the array has fewer components or its
+	 *         components are object references. In the former case
+	 *         {@link #length()} is known afterwards.
+	 */
+	public Object getLeadingPrimitiveValues(int length) {
+		if (fVerboseWriter != null) {
+			// the reader has no verbose output
+			if (length() < length) {
+				return null;
+			}
+			return getPrimitiveValues(0, length);
+		}
+		initJdwpRequest();
+		try {
+			CompletableFuture<JdwpReplyPacket> lengthReply = null;
+			if (fLength == -1) {
+				lengthReply = requestVMAsync(JdwpCommandPacket.AR_LENGTH, this);
+			} else if (fLength < length) {
+				return null;
+			}
+			CompletableFuture<JdwpReplyPacket> valuesReply = requestVMAsync(
+					JdwpCommandPacket.AR_GET_VALUES, valuesRequest(0, length));
+			if (lengthReply != null) {
+				JdwpReplyPacket replyPacket = awaitReply(lengthReply);
+				defaultReplyErrorHandler(replyPacket.errorCode());
+				DataInputStream replyData = replyPacket.dataInStream();
+				fLength = readInt("length", replyData); //$NON-NLS-1$
+			}
+			JdwpReplyPacket replyPacket = awaitReply(valuesReply);
+			if (fLength < length) {
+				// the request failed with INVALID_INDEX or INVALID_LENGTH
+				return null;
+			}
+			defaultReplyErrorHandler(replyPacket.errorCode());
+			return readPrimitiveArray(replyPacket.dataReader());
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Copies the given mirrors of primitive values into a Java array of the
+	 * type with the given signature.
+	 *
+	 * @return Returns the values, or <code>null</code> if the signature is not
+	 *         the one of a primitive type.
+	 */
+	private static Object toPrimitiveArray(List<Value> values, char signature) {
+		int length = values.size();
+		switch (signature) {
+		case 'Z': {
+			boolean[] array = new boolean[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = ((PrimitiveValue) values.get(i)).booleanValue();
+			}
+			return array;
+		}
+		case 'B': {
+			byte[] array = new byte[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = ((PrimitiveValue) values.get(i)).byteValue();
+			}
+			return array;
+		}
+		case 'C': {
+			char[] array = new char[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = ((PrimitiveValue) values.get(i)).charValue();
+			}
+			return array;
+		}
+		case 'S': {
+			short[] array = new short[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = ((PrimitiveValue) values.get(i)).shortValue();
+			}
+			return array;
+		}
+		case 'I': {
+			int[] array = new int[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = ((PrimitiveValue) values.get(i)).intValue();
+			}
+			return array;
+		}
+		case 'J': {
+			long[] array = new long[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = ((PrimitiveValue) values.get(i)).longValue();
+			}
+			return array;
+		}
+		case 'F': {
+			float[] array = new float[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = ((PrimitiveValue) values.get(i)).floatValue();
+			}
+			return array;
+		}
+		case 'D': {
+			double[] array = new double[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = ((PrimitiveValue) values.get(i)).doubleValue();
+			}
+			return array;
+		}
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Reads the components of an array region of primitive type from the reply
+	 * data into a Java array of that type.
+	 *
+	 * @param in
+	 *            the reader over the reply data
+	 * @return Returns the components, or <code>null</code> if the region
+	 *         contains object references.
+	 * @throws IOException
+	 *             if reading from the reply encounters a problem
+	 */
+	private static Object readPrimitiveArray(JdwpDataReader in) throws IOException {
+		int type = in.readByte();
+		int readLength = in.readInt();
+		switch (type) {
+		case BooleanValueImpl.tag: {
+			boolean[] values = new boolean[readLength];
+			for (int i = 0; i < readLength; i++) {
+				values[i] = in.readBoolean();
+			}
+			return values;
+		}
+		case ByteValueImpl.tag: {
+			byte[] values = new byte[readLength];
+			for (int i = 0; i < readLength; i++) {
+				values[i] = in.readByte();
+			}
+			return values;
+		}
+		case CharValueImpl.tag: {
+			char[] values = new char[readLength];
+			for (int i = 0; i < readLength; i++) {
+				values[i] = in.readChar();
+			}
+			return values;
+		}
+		case ShortValueImpl.tag: {
+			short[] values = new short[readLength];
+			for (int i = 0; i < readLength; i++) {
+				values[i] = in.readShort();
+			}
+			return values;
+		}
+		case IntegerValueImpl.tag: {
+			int[] values = new int[readLength];
+			for (int i = 0; i < readLength; i++) {
+				values[i] = in.readInt();
+			}
+			return values;
+		}
+		case LongValueImpl.tag: {
+			long[] values = new long[readLength];
+			for (int i = 0; i < readLength; i++) {
+				values[i] = in.readLong();
+			}
+			return values;
+		}
+		case FloatValueImpl.tag: {
+			float[] values = new float[readLength];
+			for (int i = 0; i < readLength; i++) {
+				values[i] = in.readFloat();
+			}
+			return values;
+		}
+		case DoubleValueImpl.tag: {
+			double[] values = new double[readLength];
+			for (int i = 0; i < readLength; i++) {
+				values[i] = in.readDouble();
+			}
+			return values;
+		}
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Checks a range of components against the bounds of this array.
+	 *
+	 * @param firstIndex
+	 *            the start
+	 * @param length
+	 *            the number of components, or -1 for all components to the
+	 *            end of the array
+	 * @return Returns the number of components in the range.
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is outside the bounds of the array
+	 */
+	private int regionLength(int firstIndex, int length)
+			throws IndexOutOfBoundsException {
+		int arrayLength = length();
+
+		if (firstIndex < 0 || firstIndex >= arrayLength) {
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Invalid_index_1);
+		}
+
+		if (length == -1) {
+			// length == -1 means all elements to the end.
+			length = arrayLength - firstIndex;
+		} else if (length < -1) {
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Invalid_number_of_value_to_get_from_array_1);
+		} else if (firstIndex + length > arrayLength) {
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Attempted_to_get_more_values_from_array_than_length_of_array_2);
+		}
+		return length;
+	}
+
+	/**
+	 * Sends AR_GET_VALUES for a range of components and checks the reply.
+	 */
+	private JdwpReplyPacket requestValues(int firstIndex, int length)
+			throws IOException {
+		JdwpReplyPacket replyPacket = requestVM(
+				JdwpCommandPacket.AR_GET_VALUES, valuesRequest(firstIndex, length));
+		switch (replyPacket.errorCode()) {
+		case JdwpReplyPacket.INVALID_INDEX:
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Invalid_index_of_array_reference_given_1);
+		}
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		return replyPacket;
+	}
+
+	/**
+	 * @return Returns the data of an AR_GET_VALUES request for a range of
+	 *         components.
+	 */
+	private ByteArrayOutputStream valuesRequest(int firstIndex, int length)
+			throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		write(this, outData); // arrayObject
+		writeInt(firstIndex, "firstIndex", outData); //$NON-NLS-1$
+		writeInt(length, "length", outData); //$NON-NLS-1$
+		return outBytes;
+	}
+
 	/**
 	 * Reads the given length of objects from the given stream
 	 * @param length the number of objects to read
@@ -222,6 +512,69 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 		return elements;
 	}
 
+	/**
+	 * Reads the values of an array region of primitive type directly from the
+	 * reply data.
+	 *
+	 * @param in
+	 *            the reader over the reply data
+	 * @return Returns sequence of values of primitive type, or
+	 *         <code>null</code> if the region contains object references.
+	 * @throws IOException
+	 *             if reading from the reply encounters a problem
+	 */
+	private List<Value> readPrimitiveSequence(JdwpDataReader in)
+			throws IOException {
+		int type = in.readByte();
+		switch (type) {
+		case BooleanValueImpl.tag:
+		case ByteValueImpl.tag:
+		case CharValueImpl.tag:
+		case DoubleValueImpl.tag:
+		case FloatValueImpl.tag:
+		case IntegerValueImpl.tag:
+		case LongValueImpl.tag:
+		case ShortValueImpl.tag:
+			break;
+		default:
+			// object references are read through the stream
+			return null;
+		}
+		VirtualMachineImpl vmImpl = virtualMachineImpl();
+		int length = in.readInt();
+		List<Value> elements = new ArrayList<>(length);
+		for (int i = 0; i < length; i++) {
+			elements.add(readPrimitive(vmImpl, type, in));
+		}
+		return elements;
+	}
+
+	/**
+	 * @return Returns a value of the given primitive type read directly from
+	 *         the reply data.
+	 */
+	private static ValueImpl readPrimitive(VirtualMachineImpl vmImpl, int type, JdwpDataReader in)
+			throws IOException {
+		switch (type) {
+		case BooleanValueImpl.tag:
+			return vmImpl.mirrorOf(in.readBoolean());
+		case ByteValueImpl.tag:
+			return vmImpl.mirrorOf(in.readByte());
+		case CharValueImpl.tag:
+			return vmImpl.mirrorOf(in.readChar());
+		case DoubleValueImpl.tag:
+			return new DoubleValueImpl(vmImpl, Double.valueOf(in.readDouble()));
+		case FloatValueImpl.tag:
+			return new FloatValueImpl(vmImpl, Float.valueOf(in.readFloat()));
+		case IntegerValueImpl.tag:
+			return vmImpl.mirrorOf(in.readInt());
+		case LongValueImpl.tag:
+			return vmImpl.mirrorOf(in.readLong());
+		default:
+			return vmImpl.mirrorOf(in.readShort());
+		}
+	}
+
 	/**
 	 * @return Returns the number of components in this array.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.Map;
 
 import org.eclipse.jdi.internal.jdwp.JdwpArrayID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpDataReader;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
@@ -266,9 +267,37 @@ public class ArrayTypeImpl extends ReferenceTypeImpl implements ArrayType {
 		if (withGenericSignature) {
 			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
 		}
-		if (ID.isNull())
-			return null;
+		return cachedMirror(vmImpl, ID, signature, genericSignature);
+	}
 
+	/**
+	 * @return Reads JDWP representation and returns new or cached instance.
+	 * @see #readWithSignature(MirrorImpl, boolean, DataInputStream)
+	 */
+	public static ArrayTypeImpl readWithSignature(MirrorImpl target,
+			boolean withGenericSignature, JdwpDataReader in)
+			throws IOException {
+		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
+		JdwpArrayID ID = new JdwpArrayID(vmImpl);
+		ID.read(in);
+		String signature = in.readString();
+		String genericSignature = null;
+		if (withGenericSignature) {
+			genericSignature = in.readString();
+		}
+		return cachedMirror(vmImpl, ID, signature, genericSignature);
+	}
+
+	/**
+	 * @return Returns the known ArrayType with the given ID, or a newly
+	 *         created one, after setting its signatures. Returns
+	 *         <code>null</code> if the ID is null.
+	 */
+	private static ArrayTypeImpl cachedMirror(VirtualMachineImpl vmImpl,
+			JdwpArrayID ID, String signature, String genericSignature) {
+		if (ID.isNull()) {
+			return null;
+		}
 		ArrayTypeImpl mirror = (ArrayTypeImpl) vmImpl.getCachedMirror(ID);
 		if (mirror == null) {
 			mirror = new ArrayTypeImpl(vmImpl, ID);
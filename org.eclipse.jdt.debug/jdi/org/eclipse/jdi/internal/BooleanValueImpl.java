@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -75,7 +75,7 @@ public class BooleanValueImpl extends PrimitiveValueImpl implements
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		boolean value = target.readBoolean("booleanValue", in); //$NON-NLS-1$
-		return new BooleanValueImpl(vmImpl, Boolean.valueOf(value));
+		return vmImpl.mirrorOf(value);
 	}
 
 	/**
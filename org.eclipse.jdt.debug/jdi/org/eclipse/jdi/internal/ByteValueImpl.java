@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -82,7 +82,7 @@ public class ByteValueImpl extends PrimitiveValueImpl implements ByteValue, Comp
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		byte value = target.readByte("byteValue", in); //$NON-NLS-1$
-		return new ByteValueImpl(vmImpl, Byte.valueOf(value));
+		return vmImpl.mirrorOf(value);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -77,7 +77,7 @@ public class CharValueImpl extends PrimitiveValueImpl implements CharValue, Comp
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		char value = target.readChar("charValue", in); //$NON-NLS-1$
-		return new CharValueImpl(vmImpl, Character.valueOf(value));
+		return vmImpl.mirrorOf(value);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,10 +21,12 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.jdi.internal.jdwp.JdwpClassID;
 import org.eclipse.jdi.internal.jdwp.JdwpClassObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpDataReader;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
@@ -87,28 +89,25 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 	}
 
 	/**
-	 * Flushes all stored Jdwp results.
+	 * Flushes the stored Jdwp results of this class itself.
 	 */
 	@Override
-	public void flushStoredJdwpResults() {
-		super.flushStoredJdwpResults();
-
-		// For all classes that have this class cached as superclass, this cache
-		// must be undone.
-		Iterator<Object> itr = virtualMachineImpl().allCachedRefTypes();
-		while (itr.hasNext()) {
-			ReferenceTypeImpl refType = (ReferenceTypeImpl) itr.next();
-			if (refType instanceof ClassTypeImpl) {
-				ClassTypeImpl classType = (ClassTypeImpl) refType;
-				if (classType.fSuperclass != null && classType.fSuperclass.equals(this)) {
-					classType.flushStoredJdwpResults();
-				}
-			}
-		}
-
+	protected void flushOwnStoredJdwpResults() {
+		super.flushOwnStoredJdwpResults();
 		fSuperclass = null;
 	}
 
+	/**
+	 * @return Returns whether the stored Jdwp results of this class are
+	 *         derived from one of the given types, being their direct
+	 *         subclass or implementing one of them.
+	 */
+	@Override
+	protected boolean dependsOn(Set<ReferenceTypeImpl> types) {
+		ClassTypeImpl superclass = fSuperclass;
+		return (superclass != null && types.contains(superclass)) || super.dependsOn(types);
+	}
+
 	/**
 	 * @return Returns a the single non-abstract Method visible from this class
 	 *         that has the given name and signature.
@@ -361,9 +360,37 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 		if (withGenericSignature) {
 			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
 		}
-		if (ID.isNull())
-			return null;
+		return cachedMirror(vmImpl, ID, signature, genericSignature);
+	}
+
+	/**
+	 * @return Reads JDWP representation and returns new or cached instance.
+	 * @see #readWithSignature(MirrorImpl, boolean, DataInputStream)
+	 */
+	public static ClassTypeImpl readWithSignature(MirrorImpl target,
+			boolean withGenericSignature, JdwpDataReader in)
+			throws IOException {
+		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
+		JdwpClassID ID = new JdwpClassID(vmImpl);
+		ID.read(in);
+		String signature = in.readString();
+		String genericSignature = null;
+		if (withGenericSignature) {
+			genericSignature = in.readString();
+		}
+		return cachedMirror(vmImpl, ID, signature, genericSignature);
+	}
 
+	/**
+	 * @return Returns the known ClassType with the given ID, or a newly
+	 *         created one, after setting its signatures. Returns
+	 *         <code>null</code> if the ID is null.
+	 */
+	private static ClassTypeImpl cachedMirror(VirtualMachineImpl vmImpl,
+			JdwpClassID ID, String signature, String genericSignature) {
+		if (ID.isNull()) {
+			return null;
+		}
 		ClassTypeImpl mirror = (ClassTypeImpl) vmImpl.getCachedMirror(ID);
 		if (mirror == null) {
 			mirror = new ClassTypeImpl(vmImpl, ID);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -77,7 +77,7 @@ public class IntegerValueImpl extends PrimitiveValueImpl implements IntegerValue
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		int value = target.readInt("integerValue", in); //$NON-NLS-1$
-		return new IntegerValueImpl(vmImpl, Integer.valueOf(value));
+		return vmImpl.mirrorOf(value);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import java.util.List;
 
 import org.eclipse.jdi.internal.jdwp.JdwpClassObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpDataReader;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpInterfaceID;
 
@@ -81,26 +82,6 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 		return typeTag;
 	}
 
-	/**
-	 * Flushes all stored Jdwp results.
-	 */
-	@Override
-	public void flushStoredJdwpResults() {
-		super.flushStoredJdwpResults();
-
-		// For all reference types that have this interface cached, this cache must be
-		// undone.
-		Iterator<Object> itr = virtualMachineImpl().allCachedRefTypes();
-		while (itr.hasNext()) {
-			ReferenceTypeImpl refType = (ReferenceTypeImpl) itr.next();
-			if (refType.fInterfaces != null
-					&& refType.fInterfaces.contains(this)) {
-				refType.flushStoredJdwpResults();
-			}
-		}
-
-	}
-
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.InterfaceType#implementors()
 	 */
@@ -257,12 +238,38 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 		if (withGenericSignature) {
 			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
 		}
+		return cachedMirror(vmImpl, ID, signature, genericSignature);
+	}
+
+	/**
+	 * @return Reads JDWP representation and returns new or cached instance.
+	 * @see #readWithSignature(MirrorImpl, boolean, DataInputStream)
+	 */
+	public static InterfaceTypeImpl readWithSignature(MirrorImpl target,
+			boolean withGenericSignature, JdwpDataReader in)
+			throws IOException {
+		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
+		JdwpInterfaceID ID = new JdwpInterfaceID(vmImpl);
+		ID.read(in);
+		String signature = in.readString();
+		String genericSignature = null;
+		if (withGenericSignature) {
+			genericSignature = in.readString();
+		}
+		return cachedMirror(vmImpl, ID, signature, genericSignature);
+	}
+
+	/**
+	 * @return Returns the known InterfaceType with the given ID, or a newly
+	 *         created one, after setting its signatures. Returns
+	 *         <code>null</code> if the ID is null.
+	 */
+	private static InterfaceTypeImpl cachedMirror(VirtualMachineImpl vmImpl,
+			JdwpInterfaceID ID, String signature, String genericSignature) {
 		if (ID.isNull()) {
 			return null;
 		}
-
-		InterfaceTypeImpl mirror = (InterfaceTypeImpl) vmImpl
-				.getCachedMirror(ID);
+		InterfaceTypeImpl mirror = (InterfaceTypeImpl) vmImpl.getCachedMirror(ID);
 		if (mirror == null) {
 			mirror = new InterfaceTypeImpl(vmImpl, ID);
 			vmImpl.addCachedMirror(mirror);
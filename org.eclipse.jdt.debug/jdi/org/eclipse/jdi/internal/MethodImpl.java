@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,13 +25,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpDataReader;
 import org.eclipse.jdi.internal.jdwp.JdwpMethodID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
@@ -43,6 +45,7 @@ import com.sun.jdi.Locatable;
 import com.sun.jdi.Location;
 import com.sun.jdi.Method;
 import com.sun.jdi.Type;
+import com.sun.jdi.VMDisconnectedException;
 
 /**
  * Implementation of com.sun.jdi.Method.
@@ -62,8 +65,6 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	private List<LocalVariable> fVariables = null;
 	private long fLowestValidCodeIndex = -1;
 	private long fHighestValidCodeIndex = -1;
-	private Map<Long, Integer> fCodeIndexToLine = null;
-	private Map<Integer, List<Long>> fLineToCodeIndexes = null;
 	private Map<String, Map<String, List<Location>>> fStratumAllLineLocations = null;
 	private int fArgumentSlotsCount = -1;
 	private List<LocalVariable> fArguments = null;
@@ -73,6 +74,17 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	private byte[] fByteCodes = null;
 	private long[] fCodeIndexTable;
 	private int[] fJavaStratumLineNumberTable;
+	/**
+	 * Index of the line table, built when it is read: the distinct code
+	 * indexes of the table in ascending order with their line numbers, and the
+	 * line numbers of the table in ascending order with their code indexes.
+	 */
+	private long[] fSortedCodeIndexes;
+	private int[] fSortedCodeIndexLines;
+	private int[] fSortedLines;
+	private long[] fSortedLineCodeIndexes;
+	/** Whether the VM has reported that this method has no line information. */
+	private boolean fLineTableAbsent = false;
 
 	private String fReturnTypeName = null;
 
@@ -95,11 +107,14 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 		fVariables = null;
 		fLowestValidCodeIndex = -1;
 		fHighestValidCodeIndex = -1;
-		fCodeIndexToLine = null;
-		fLineToCodeIndexes = null;
 		fStratumAllLineLocations = null;
 		fCodeIndexTable = null;
 		fJavaStratumLineNumberTable = null;
+		fSortedCodeIndexes = null;
+		fSortedCodeIndexLines = null;
+		fSortedLines = null;
+		fSortedLineCodeIndexes = null;
+		fLineTableAbsent = false;
 		fArgumentSlotsCount = -1;
 		fArguments = null;
 		fArgumentTypes = null;
@@ -116,27 +131,16 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	}
 
 	/**
-	 * @return Returns map of location to line number.
-	 */
-	protected Map<Long, Integer> javaStratumCodeIndexToLine()
-			throws AbsentInformationException {
-		if (isAbstract()) {
-			return Collections.EMPTY_MAP;
-		}
-		getLineTable();
-		return fCodeIndexToLine;
-	}
-
-	/**
-	 * @return Returns map of line number to locations.
+	 * @return Returns the line numbers of the line table of this method in
+	 *         ascending order, possibly with duplicates, or <code>null</code>
+	 *         if this method has no line table.
 	 */
-	protected List<Long> javaStratumLineToCodeIndexes(int line) throws AbsentInformationException {
+	protected int[] javaStratumLines() throws AbsentInformationException {
 		if (isAbstract() || isNative()) {
 			return null;
 		}
 		getLineTable();
-
-		return fLineToCodeIndexes.get(Integer.valueOf(line));
+		return fSortedLines;
 	}
 
 	/**
@@ -146,27 +150,51 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 		if (isObsolete()) {
 			return;
 		}
-		if (fCodeIndexToLine != null) {
-			if (fCodeIndexToLine.isEmpty()) {
+		if (fSortedCodeIndexes != null) {
+			if (fSortedCodeIndexes.length == 0) {
 				throw new AbsentInformationException(
 						JDIMessages.MethodImpl_Got_empty_line_number_table_for_this_method_1);
 			}
 			return;
 		}
+		if (fLineTableAbsent) {
+			throw new AbsentInformationException(
+					JDIMessages.MethodImpl_No_line_number_information_available_2);
+		}
 
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
+			readLineTable(requestVM(JdwpCommandPacket.M_LINE_TABLE, lineTableRequestData()));
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * @return Returns the data of a line table request for this method.
+	 */
+	private ByteArrayOutputStream lineTableRequestData() {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		try {
 			writeWithReferenceType(this, outData);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		}
+		return outBytes;
+	}
 
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.M_LINE_TABLE, outBytes);
+	/**
+	 * Reads the line table of this method from the given reply. A method
+	 * without line information is remembered, so that its line table is not
+	 * requested again.
+	 */
+	private void readLineTable(JdwpReplyPacket replyPacket) throws AbsentInformationException {
+		try {
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.ABSENT_INFORMATION:
-				throw new AbsentInformationException(
-						JDIMessages.MethodImpl_No_line_number_information_available_2);
 			case JdwpReplyPacket.NATIVE_METHOD:
+				fLineTableAbsent = true;
 				throw new AbsentInformationException(
 						JDIMessages.MethodImpl_No_line_number_information_available_2);
 			}
@@ -176,39 +204,137 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			fLowestValidCodeIndex = readLong("lowest index", replyData); //$NON-NLS-1$
 			fHighestValidCodeIndex = readLong("highest index", replyData); //$NON-NLS-1$
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			fCodeIndexToLine = new HashMap<>();
-			fLineToCodeIndexes = new HashMap<>();
+			long[] codeIndexTable = new long[nrOfElements];
+			int[] lineNumberTable = new int[nrOfElements];
+			for (int i = 0; i < nrOfElements; i++) {
+				codeIndexTable[i] = readLong("code index", replyData); //$NON-NLS-1$
+				lineNumberTable[i] = readInt("line nr", replyData); //$NON-NLS-1$
+			}
+			fCodeIndexTable = codeIndexTable;
+			fJavaStratumLineNumberTable = lineNumberTable;
+			indexLineTable(codeIndexTable, lineNumberTable);
 			if (nrOfElements == 0) {
 				throw new AbsentInformationException(
 						JDIMessages.MethodImpl_Got_empty_line_number_table_for_this_method_3);
 			}
-			fCodeIndexTable = new long[nrOfElements];
-			fJavaStratumLineNumberTable = new int[nrOfElements];
-			for (int i = 0; i < nrOfElements; i++) {
-				long lineCodeIndex = readLong("code index", replyData); //$NON-NLS-1$
-				Long lineCodeIndexLong = Long.valueOf(lineCodeIndex);
-				int lineNr = readInt("line nr", replyData); //$NON-NLS-1$
-				Integer lineNrInt = Integer.valueOf(lineNr);
+		} catch (IOException e) {
+			fCodeIndexTable = null;
+			fJavaStratumLineNumberTable = null;
+			fSortedCodeIndexes = null;
+			defaultIOExceptionHandler(e);
+		}
+	}
 
-				// Add entry to code-index to line mapping.
-				fCodeIndexToLine.put(lineCodeIndexLong, lineNrInt);
+	/**
+	 * Builds the index of the given line table, so that the line of a code
+	 * index and the code indexes of a line are found by binary search.
+	 */
+	private void indexLineTable(long[] codeIndexTable, int[] lineNumberTable) {
+		int length = codeIndexTable.length;
 
-				fCodeIndexTable[i] = lineCodeIndex;
-				fJavaStratumLineNumberTable[i] = lineNr;
+		// Line numbers in ascending order, ties kept in table order.
+		long[] linePositions = new long[length];
+		for (int i = 0; i < length; i++) {
+			linePositions[i] = ((long) lineNumberTable[i] << 32) | i;
+		}
+		Arrays.sort(linePositions);
+		int[] sortedLines = new int[length];
+		long[] sortedLineCodeIndexes = new long[length];
+		for (int i = 0; i < length; i++) {
+			int position = (int) linePositions[i];
+			sortedLines[i] = lineNumberTable[position];
+			sortedLineCodeIndexes[i] = codeIndexTable[position];
+		}
 
-				List<Long> lineNrEntry = fLineToCodeIndexes.get(lineNrInt);
-				if (lineNrEntry == null) {
-					lineNrEntry = new ArrayList<>();
-					fLineToCodeIndexes.put(lineNrInt, lineNrEntry);
-				}
-				lineNrEntry.add(lineCodeIndexLong);
+		// Distinct code indexes in ascending order. The table is usually
+		// sorted already. When a code index appears more than once, its last
+		// line wins.
+		int[] positions = new int[length];
+		boolean sorted = true;
+		for (int i = 0; i < length; i++) {
+			positions[i] = i;
+			sorted &= i == 0 || codeIndexTable[i - 1] <= codeIndexTable[i];
+		}
+		if (!sorted) {
+			Integer[] order = new Integer[length];
+			for (int i = 0; i < length; i++) {
+				order[i] = Integer.valueOf(i);
+			}
+			Arrays.sort(order, (a, b) -> Long.compare(codeIndexTable[a.intValue()], codeIndexTable[b.intValue()]));
+			for (int i = 0; i < length; i++) {
+				positions[i] = order[i].intValue();
+			}
+		}
+		long[] sortedCodeIndexes = new long[length];
+		int[] sortedCodeIndexLines = new int[length];
+		int count = 0;
+		for (int i = 0; i < length; i++) {
+			long codeIndex = codeIndexTable[positions[i]];
+			if (count > 0 && sortedCodeIndexes[count - 1] == codeIndex) {
+				count--;
+			}
+			sortedCodeIndexes[count] = codeIndex;
+			sortedCodeIndexLines[count++] = lineNumberTable[positions[i]];
+		}
+		if (count < length) {
+			sortedCodeIndexes = Arrays.copyOf(sortedCodeIndexes, count);
+			sortedCodeIndexLines = Arrays.copyOf(sortedCodeIndexLines, count);
+		}
+
+		fSortedLines = sortedLines;
+		fSortedLineCodeIndexes = sortedLineCodeIndexes;
+		fSortedCodeIndexLines = sortedCodeIndexLines;
+		fSortedCodeIndexes = sortedCodeIndexes;
+	}
+
+	/**
+	 * Retrieves the line tables of the given methods that have not been
+	 * retrieved yet. The requests for all methods are sent before any reply is
+	 * awaited, so this takes a single round trip to the VM rather than one per
+	 * method. Methods without line information, and methods whose line table
+	 * cannot be retrieved, are left as they are and report it when their line
+	 * table is accessed, so that a failure for one method does not affect the
+	 * others.
+	 *
+	 * @param methods
+	 *            methods of one VM
+	 */
+	public static void prefetchLineTables(List<? extends Method> methods) {
+		List<MethodImpl> pending = new ArrayList<>(methods.size());
+		Set<MethodImpl> requested = new HashSet<>();
+		List<CompletableFuture<JdwpReplyPacket>> replies = new ArrayList<>(methods.size());
+		for (Method method : methods) {
+			MethodImpl methodImpl = (MethodImpl) method;
+			if (methodImpl.fSortedCodeIndexes != null || methodImpl.fLineTableAbsent
+					|| methodImpl.isAbstract()
+					|| methodImpl.isNative() || methodImpl.isObsolete()
+					|| !requested.add(methodImpl)) {
+				continue;
+			}
+			try {
+				replies.add(methodImpl.requestVMAsync(JdwpCommandPacket.M_LINE_TABLE,
+						methodImpl.lineTableRequestData()));
+			} catch (RuntimeException e) {
+				// e.g. disconnected, await the requests already sent
+				break;
+			}
+			pending.add(methodImpl);
+		}
+		for (int i = 0; i < pending.size(); i++) {
+			MethodImpl methodImpl = pending.get(i);
+			methodImpl.initJdwpRequest();
+			try {
+				methodImpl.readLineTable(methodImpl.awaitReply(replies.get(i)));
+			} catch (AbsentInformationException e) {
+				// reported again when the line table is accessed
+			} catch (VMDisconnectedException e) {
+				// the remaining replies complete as well
+			} catch (RuntimeException e) {
+				// retried, and reported if it fails again, when the line
+				// table is accessed
+			} finally {
+				methodImpl.handledJdwpRequest();
 			}
-		} catch (IOException e) {
-			fCodeIndexToLine = null;
-			fLineToCodeIndexes = null;
-			defaultIOExceptionHandler(e);
-		} finally {
-			handledJdwpRequest();
 		}
 	}
 
@@ -226,28 +352,24 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			throw new AbsentInformationException(JDIMessages.MethodImpl_Invalid_code_index_of_a_location_given_4);
 		}
 
-		Long lineCodeIndexObj;
-		Integer lineNrObj;
-		long index = lineCodeIndex;
-		// Search for the line where this code index is located.
-		do {
-			lineCodeIndexObj = Long.valueOf(index);
-			lineNrObj = javaStratumCodeIndexToLine().get(lineCodeIndexObj);
-		} while (lineNrObj == null && --index >= fLowestValidCodeIndex);
-		if (lineNrObj == null) {
-			if (lineCodeIndex >= fLowestValidCodeIndex) {
-				index = lineCodeIndex;
-				do {
-					lineCodeIndexObj = Long.valueOf(index);
-					lineNrObj = javaStratumCodeIndexToLine().get(lineCodeIndexObj);
-				} while (lineNrObj == null && ++index <= fHighestValidCodeIndex);
-				if (lineNrObj != null) {
-					return lineNrObj.intValue();
-				}
-			}
+		if (fSortedCodeIndexes == null) {
 			throw new AbsentInformationException(JDIMessages.MethodImpl_Invalid_code_index_of_a_location_given_4);
 		}
-		return lineNrObj.intValue();
+		// Search for the line where this code index is located: the closest
+		// entry at or before it, else the closest entry after it.
+		int position = Arrays.binarySearch(fSortedCodeIndexes, lineCodeIndex);
+		if (position >= 0) {
+			return fSortedCodeIndexLines[position];
+		}
+		position = -position - 1;
+		if (position > 0 && fSortedCodeIndexes[position - 1] >= fLowestValidCodeIndex) {
+			return fSortedCodeIndexLines[position - 1];
+		}
+		if (lineCodeIndex >= fLowestValidCodeIndex && position < fSortedCodeIndexes.length
+				&& fSortedCodeIndexes[position] <= fHighestValidCodeIndex) {
+			return fSortedCodeIndexLines[position];
+		}
+		throw new AbsentInformationException(JDIMessages.MethodImpl_Invalid_code_index_of_a_location_given_4);
 	}
 
 	/* (non-Javadoc)
@@ -467,8 +589,8 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			return null;
 		}
 		try {
-			Integer lineNrInt = javaStratumCodeIndexToLine().get(Long.valueOf(index));
-			if (lineNrInt == null) {
+			getLineTable();
+			if (fSortedCodeIndexes == null || Arrays.binarySearch(fSortedCodeIndexes, index) < 0) {
 				throw new AbsentInformationException(MessageFormat.format(JDIMessages.MethodImpl_No_valid_location_at_the_specified_code_index__0__2, new Object[] { Long.toString(index) }));
 			}
 		} catch (AbsentInformationException e) {
@@ -744,16 +866,50 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 		String genericSignature = null;
 		if (withGenericSignature) {
 			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
-			if ("".equals(genericSignature)) { //$NON-NLS-1$
-				genericSignature = null;
-			}
 		}
 		int modifierBits = target.readInt(
 				"modifiers", AccessibleImpl.getModifierStrings(), in); //$NON-NLS-1$
+		return create(vmImpl, referenceType, ID, name, signature,
+				genericSignature, modifierBits);
+	}
+
+	/**
+	 * @return Reads JDWP representation and returns new instance.
+	 * @see #readWithNameSignatureModifiers(ReferenceTypeImpl, ReferenceTypeImpl, boolean, DataInputStream)
+	 */
+	protected static MethodImpl readWithNameSignatureModifiers(
+			ReferenceTypeImpl target, ReferenceTypeImpl referenceType,
+			boolean withGenericSignature, JdwpDataReader in)
+			throws IOException {
+		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
+		JdwpMethodID ID = new JdwpMethodID(vmImpl);
+		ID.read(in);
+		if (ID.isNull()) {
+			return null;
+		}
+		String name = in.readString();
+		String signature = in.readString();
+		String genericSignature = null;
+		if (withGenericSignature) {
+			genericSignature = in.readString();
+		}
+		int modifierBits = in.readInt();
+		return create(vmImpl, referenceType, ID, name, signature,
+				genericSignature, modifierBits);
+	}
 
-		MethodImpl mirror = new MethodImpl(vmImpl, referenceType, ID, name,
-				signature, genericSignature, modifierBits);
-		return mirror;
+	/**
+	 * @return Returns a new instance with the given properties read from a
+	 *         JDWP reply, where an empty generic signature stands for none.
+	 */
+	private static MethodImpl create(VirtualMachineImpl vmImpl,
+			ReferenceTypeImpl referenceType, JdwpMethodID ID, String name,
+			String signature, String genericSignature, int modifierBits) {
+		if ("".equals(genericSignature)) { //$NON-NLS-1$
+			genericSignature = null;
+		}
+		return new MethodImpl(vmImpl, referenceType, ID, name, signature,
+				genericSignature, modifierBits);
 	}
 
 	/**
@@ -877,31 +1033,54 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	 * the specified lines.
 	 */
 	protected List<Location> javaStratumLocationsOfLines(List<Integer> javaLines)	throws AbsentInformationException {
-		Set<Long> tmpLocations = new TreeSet<>();
+		if (javaStratumLines() == null || fSortedCodeIndexes == null) {
+			return Collections.EMPTY_LIST;
+		}
+		// mark the entries of the code index table that belong to the lines
+		boolean[] selected = null;
 		for (Integer key : javaLines) {
-			List<Long> indexes = javaStratumLineToCodeIndexes(key.intValue());
-			if (indexes != null) {
-				tmpLocations.addAll(indexes);
+			int line = key.intValue();
+			for (int i = firstPositionOfLine(line); i < fSortedLines.length && fSortedLines[i] == line; i++) {
+				int position = Arrays.binarySearch(fSortedCodeIndexes, fSortedLineCodeIndexes[i]);
+				if (position >= 0) {
+					if (selected == null) {
+						selected = new boolean[fSortedCodeIndexes.length];
+					}
+					selected[position] = true;
+				}
 			}
 		}
+		if (selected == null) {
+			return Collections.EMPTY_LIST;
+		}
 		List<Location> locations = new ArrayList<>();
-		for (Long location : tmpLocations) {
-			long index = location.longValue();
-			int position = Arrays.binarySearch(fCodeIndexTable, index);
-			if(position < 0) {
-				//https://bugs.eclipse.org/bugs/show_bug.cgi?id=388172
-				//the key is not in the code index, we should not insert it as the line table is supposed to be
-				//constant unless the parent class is redefined.
-				//See http://docs.oracle.com/javase/6/docs/platform/jpda/jdwp/jdwp-protocol.html#JDWP_Method_LineTable for more information
-				continue;
-			}
-			if (position == 0 || !tmpLocations.contains(Long.valueOf(fCodeIndexTable[position - 1]))) {
-				locations.add(new LocationImpl(virtualMachineImpl(), this, index));
+		for (int position = 0; position < selected.length; position++) {
+			if (selected[position] && (position == 0 || !selected[position - 1])) {
+				locations.add(new LocationImpl(virtualMachineImpl(), this, fSortedCodeIndexes[position]));
 			}
 		}
 		return locations;
 	}
 
+	/**
+	 * @return Returns the position of the first entry for the given line in
+	 *         the line-ordered index of the line table, or the position where
+	 *         it would be if there is none.
+	 */
+	private int firstPositionOfLine(int line) {
+		int low = 0;
+		int high = fSortedLines.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (fSortedLines[middle] < line) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.Method#isBridge()
 	 */
@@ -0,0 +1,301 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdi.internal.jdwp.JdwpID;
+
+/**
+ * Cache of mirrors keyed by the value of their JDWP id. Mirrors are held
+ * through soft references, so that they are only kept as long as memory
+ * permits.
+ * <p>
+ * The cache is split in segments that are locked independently, and ids are
+ * kept as primitive longs in open addressing tables, so that lookups neither
+ * box their keys nor contend on a single lock. Entries whose mirror has been
+ * garbage collected are removed when mirrors are put into or removed from the
+ * cache, instead of by every lookup.
+ * </p>
+ *
+ * @param <V>
+ *            the type of the cached mirrors
+ */
+public class MirrorCache<V> {
+
+	/** Number of segments, must be a power of two. */
+	private static final int SEGMENT_COUNT = 16;
+
+	/**
+	 * Soft reference to a cached mirror that remembers where it is cached.
+	 */
+	private static final class Entry extends SoftReference<Object> {
+		final long fKey;
+		final Segment<?> fSegment;
+
+		Entry(long key, Object value, Segment<?> segment, ReferenceQueue<Object> queue) {
+			super(value, queue);
+			fKey = key;
+			fSegment = segment;
+		}
+	}
+
+	/**
+	 * Open addressing table of entries, with linear probing.
+	 */
+	private static final class Segment<V> {
+		private final ReferenceQueue<Object> fQueue;
+		private long[] fKeys = new long[16];
+		private Entry[] fEntries = new Entry[16];
+		private int fSize = 0;
+
+		Segment(ReferenceQueue<Object> queue) {
+			fQueue = queue;
+		}
+
+		/**
+		 * @return Returns the slot holding the given key, or the empty slot
+		 *         where it would be inserted.
+		 */
+		private int indexOf(long key) {
+			int mask = fEntries.length - 1;
+			int slot = hash(key) & mask;
+			while (fEntries[slot] != null && fKeys[slot] != key) {
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		@SuppressWarnings("unchecked")
+		synchronized V get(long key) {
+			Entry entry = fEntries[indexOf(key)];
+			return entry == null ? null : (V) entry.get();
+		}
+
+		synchronized void put(long key, V value) {
+			if ((fSize + 1) * 2 > fEntries.length) {
+				rehash(fEntries.length * 2);
+			}
+			int slot = indexOf(key);
+			if (fEntries[slot] == null) {
+				fSize++;
+			} else {
+				// the replaced entry must not remove the new one when it is
+				// reclaimed
+				fEntries[slot].clear();
+			}
+			fKeys[slot] = key;
+			fEntries[slot] = new Entry(key, value, this, fQueue);
+		}
+
+		@SuppressWarnings("unchecked")
+		synchronized V remove(long key) {
+			int slot = indexOf(key);
+			Entry entry = fEntries[slot];
+			if (entry == null) {
+				return null;
+			}
+			removeSlot(slot);
+			V value = (V) entry.get();
+			entry.clear();
+			return value;
+		}
+
+		/**
+		 * Removes the given entry, unless it has been replaced or removed
+		 * already.
+		 */
+		synchronized void reclaim(Entry entry) {
+			int slot = indexOf(entry.fKey);
+			if (fEntries[slot] == entry) {
+				removeSlot(slot);
+			}
+		}
+
+		synchronized void enqueue(long key) {
+			Entry entry = fEntries[indexOf(key)];
+			if (entry != null) {
+				entry.clear();
+				entry.enqueue();
+			}
+		}
+
+		synchronized int size() {
+			return fSize;
+		}
+
+		@SuppressWarnings("unchecked")
+		synchronized void collectValues(List<V> values, Class<?> type) {
+			for (Entry entry : fEntries) {
+				if (entry != null) {
+					Object value = entry.get();
+					if (value != null && (type == null || value.getClass().equals(type))) {
+						values.add((V) value);
+					}
+				}
+			}
+		}
+
+		private void rehash(int capacity) {
+			long[] keys = fKeys;
+			Entry[] entries = fEntries;
+			fKeys = new long[capacity];
+			fEntries = new Entry[capacity];
+			for (int i = 0; i < entries.length; i++) {
+				if (entries[i] != null) {
+					int slot = indexOf(keys[i]);
+					fKeys[slot] = keys[i];
+					fEntries[slot] = entries[i];
+				}
+			}
+		}
+
+		/**
+		 * Clears the given slot, moving back the entries that follow it so
+		 * that no lookup passes over an empty slot.
+		 */
+		private void removeSlot(int slot) {
+			int mask = fEntries.length - 1;
+			int empty = slot;
+			int next = (slot + 1) & mask;
+			while (fEntries[next] != null) {
+				int home = hash(fKeys[next]) & mask;
+				if (((next - home) & mask) >= ((next - empty) & mask)) {
+					fKeys[empty] = fKeys[next];
+					fEntries[empty] = fEntries[next];
+					empty = next;
+				}
+				next = (next + 1) & mask;
+			}
+			fEntries[empty] = null;
+			fSize--;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private final Segment<V>[] fSegments = new Segment[SEGMENT_COUNT];
+
+	/** Queue the entries of garbage collected mirrors are enqueued on. */
+	private final ReferenceQueue<Object> fReferenceQueue = new ReferenceQueue<>();
+
+	/**
+	 * Creates an empty cache.
+	 */
+	public MirrorCache() {
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			fSegments[i] = new Segment<>(fReferenceQueue);
+		}
+	}
+
+	private static int hash(long key) {
+		// ids are often allocated sequentially, spread them
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	private Segment<V> segmentFor(long key) {
+		return fSegments[(hash(key) >>> 28) & (SEGMENT_COUNT - 1)];
+	}
+
+	/**
+	 * Puts a mirror in the cache under the given id.
+	 */
+	public void put(JdwpID id, V value) {
+		reclaim();
+		long key = id.value();
+		segmentFor(key).put(key, value);
+	}
+
+	/**
+	 * @return Returns the mirror cached under the given id, or
+	 *         <code>null</code> if it has not been cached or has been garbage
+	 *         collected.
+	 */
+	public V get(JdwpID id) {
+		long key = id.value();
+		return segmentFor(key).get(key);
+	}
+
+	/**
+	 * Removes the mirror cached under the given id.
+	 *
+	 * @return Returns the mirror that had been cached under the id, or
+	 *         <code>null</code> if there was none.
+	 */
+	public V remove(JdwpID id) {
+		reclaim();
+		long key = id.value();
+		return segmentFor(key).remove(key);
+	}
+
+	/**
+	 * @return Returns the number of entries in this cache, including those of
+	 *         garbage collected mirrors that have not been removed yet.
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment<V> segment : fSegments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	/**
+	 * @return Returns a snapshot of the mirrors in this cache that have not
+	 *         been garbage collected.
+	 */
+	public List<V> values() {
+		return valuesWithType(null);
+	}
+
+	/**
+	 * @return Returns a snapshot of the mirrors in this cache that have not
+	 *         been garbage collected and whose runtime class is the given
+	 *         class, or of all of them if the class is <code>null</code>.
+	 */
+	public List<V> valuesWithType(Class<?> type) {
+		List<V> values = new ArrayList<>();
+		for (Segment<V> segment : fSegments) {
+			segment.collectValues(values, type);
+		}
+		return values;
+	}
+
+	/**
+	 * Clears the mirror cached under the given id and enqueues its entry, as
+	 * the garbage collector does when the mirror is collected.
+	 *
+	 * @noreference public for test purposes
+	 */
+	public void enqueue(JdwpID id) {
+		long key = id.value();
+		segmentFor(key).enqueue(key);
+	}
+
+	/**
+	 * Removes the entries of garbage collected mirrors that have been
+	 * enqueued.
+	 */
+	private void reclaim() {
+		Reference<?> reference;
+		while ((reference = fReferenceQueue.poll()) != null) {
+			Entry entry = (Entry) reference;
+			entry.fSegment.reclaim(entry);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.eclipse.jdi.Bootstrap;
 import org.eclipse.jdi.TimeoutException;
@@ -197,17 +199,38 @@ public class MirrorImpl implements Mirror {
 	 * @return Returns reply data.
 	 */
 	public JdwpReplyPacket requestVM(int command, byte[] outData) {
-		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command);
+		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command, fVirtualMachineImpl.nextPacketId());
 		commandPacket.setData(outData);
 		long sent = System.currentTimeMillis();
+		fVirtualMachineImpl.commandSending(command);
 		fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
 		fPendingJdwpRequest = true;
 		writeVerboseCommandPacketHeader(commandPacket);
 
 		JdwpReplyPacket reply = fVirtualMachineImpl.packetReceiveManager()
 				.getReply(commandPacket);
-		long recieved = System.currentTimeMillis();
+		traceRequestTime(commandPacket, sent, reply);
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println();
+			fVerboseWriter.println("Received reply"); //$NON-NLS-1$
+			fVerboseWriter.println("length", reply.getLength()); //$NON-NLS-1$
+			fVerboseWriter.println("id", reply.getId()); //$NON-NLS-1$
+			fVerboseWriter.println(
+					"flags", reply.getFlags(), JdwpPacket.getFlagMap()); //$NON-NLS-1$
+			fVerboseWriter
+					.println(
+							"error code", reply.errorCode(), JdwpReplyPacket.errorMap()); //$NON-NLS-1$
+		}
+
+		return reply;
+	}
+
+	/**
+	 * Traces the response time of a request if request time tracing is on.
+	 */
+	private void traceRequestTime(JdwpCommandPacket commandPacket, long sent, JdwpReplyPacket reply) {
 		if (JDIDebugOptions.DEBUG_JDI_REQUEST_TIMES) {
+			long recieved = System.currentTimeMillis();
 			StringBuilder buf = new StringBuilder();
 			buf.append(JDIDebugOptions.FORMAT.format(new Date(sent)));
 			buf.append(" JDI Request: "); //$NON-NLS-1$
@@ -219,21 +242,109 @@ public class MirrorImpl implements Mirror {
 			buf.append(reply.getLength());
 			JDIDebugOptions.trace(buf.toString());
 		}
+	}
+
+	/**
+	 * Sends a VM request without waiting for its reply. Several requests can be
+	 * sent this way before any of the replies is collected with
+	 * {@link #awaitReply(CompletableFuture)}, so that independent requests
+	 * share a single round trip to the VM.
+	 * <p>
+	 * If verbose output is on, the request is performed synchronously so that
+	 * the verbose output of requests and replies is not interleaved.
+	 * </p>
+	 *
+	 * @return Returns the future reply data.
+	 */
+	public CompletableFuture<JdwpReplyPacket> requestVMAsync(int command, byte[] outData) {
 		if (fVerboseWriter != null) {
-			fVerboseWriter.println();
-			fVerboseWriter.println("Received reply"); //$NON-NLS-1$
-			fVerboseWriter.println("length", reply.getLength()); //$NON-NLS-1$
-			fVerboseWriter.println("id", reply.getId()); //$NON-NLS-1$
-			fVerboseWriter.println(
-					"flags", reply.getFlags(), JdwpPacket.getFlagMap()); //$NON-NLS-1$
-			fVerboseWriter
-					.println(
-							"error code", reply.errorCode(), JdwpReplyPacket.errorMap()); //$NON-NLS-1$
+			try {
+				return CompletableFuture.completedFuture(requestVM(command, outData));
+			} catch (RuntimeException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command, fVirtualMachineImpl.nextPacketId());
+		commandPacket.setData(outData);
+		long sent = System.currentTimeMillis();
+		CompletableFuture<JdwpReplyPacket> reply = fVirtualMachineImpl.packetReceiveManager()
+				.getReplyAsync(commandPacket);
+		fVirtualMachineImpl.commandSending(command);
+		fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
+		if (JDIDebugOptions.DEBUG_JDI_REQUEST_TIMES) {
+			return reply.thenApply(packet -> {
+				traceRequestTime(commandPacket, sent, packet);
+				return packet;
+			});
 		}
-
 		return reply;
 	}
 
+	/**
+	 * Sends a VM request without waiting for its reply.
+	 *
+	 * @return Returns the future reply data.
+	 * @see #requestVMAsync(int, byte[])
+	 */
+	public CompletableFuture<JdwpReplyPacket> requestVMAsync(int command, ByteArrayOutputStream outData) {
+		return requestVMAsync(command, outData.toByteArray());
+	}
+
+	/**
+	 * Sends a VM request for a specified object without waiting for its reply.
+	 *
+	 * @return Returns the future reply data.
+	 * @see #requestVMAsync(int, byte[])
+	 */
+	public CompletableFuture<JdwpReplyPacket> requestVMAsync(int command, ObjectReferenceImpl object) {
+		ByteArrayOutputStream byteOutStream = new ByteArrayOutputStream();
+		DataOutputStream dataOutStream = new DataOutputStream(byteOutStream);
+		try {
+			object.write(this, dataOutStream);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		}
+		return requestVMAsync(command, byteOutStream);
+	}
+
+	/**
+	 * Sends a VM request for a specified type without waiting for its reply.
+	 *
+	 * @return Returns the future reply data.
+	 * @see #requestVMAsync(int, byte[])
+	 */
+	public CompletableFuture<JdwpReplyPacket> requestVMAsync(int command, ReferenceTypeImpl refType) {
+		ByteArrayOutputStream byteOutStream = new ByteArrayOutputStream();
+		DataOutputStream dataOutStream = new DataOutputStream(byteOutStream);
+		try {
+			refType.write(this, dataOutStream);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		}
+		return requestVMAsync(command, byteOutStream);
+	}
+
+	/**
+	 * Waits for the reply of a request sent with
+	 * {@link #requestVMAsync(int, byte[])}.
+	 *
+	 * @return Returns reply data.
+	 * @exception TimeoutException
+	 *                if the VM did not reply in time
+	 * @exception VMDisconnectedException
+	 *                if the VM disconnected before replying
+	 */
+	public JdwpReplyPacket awaitReply(CompletableFuture<JdwpReplyPacket> reply) {
+		try {
+			return reply.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
 	/**
 	 * Performs a VM request.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
@@ -300,20 +301,14 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 					nonStaticFields.add(field);
 			}
 
-			// First get values for the static fields.
-			Map<Field, Value> resultMap;
-			if (staticFields.isEmpty()) {
-				resultMap = new HashMap<>();
-			} else {
-				resultMap = referenceType().getValues(staticFields);
-			}
-
 			// if no non-static fields are requested, return directly the
-			// result.
+			// values of the static fields.
 			if (nonStaticFields.isEmpty()) {
-				return resultMap;
+				return referenceType().getValues(staticFields);
 			}
-			// Then get the values for the non-static fields.
+
+			// First send the request for the non-static fields, so that its
+			// reply travels while the static fields are retrieved.
 			int nonStaticFieldsSize = nonStaticFields.size();
 			write(this, outData);
 			writeInt(nonStaticFieldsSize, "size", outData); //$NON-NLS-1$
@@ -321,9 +316,19 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 				FieldImpl field = nonStaticFields.get(i);
 				field.write(this, outData);
 			}
-
-			JdwpReplyPacket replyPacket = requestVM(
+			CompletableFuture<JdwpReplyPacket> nonStaticReply = requestVMAsync(
 					JdwpCommandPacket.OR_GET_VALUES, outBytes);
+
+			// Then get values for the static fields.
+			Map<Field, Value> resultMap;
+			if (staticFields.isEmpty()) {
+				resultMap = new HashMap<>();
+			} else {
+				resultMap = referenceType().getValues(staticFields);
+			}
+
+			// Finally read the values of the non-static fields.
+			JdwpReplyPacket replyPacket = awaitReply(nonStaticReply);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
 			DataInputStream replyData = replyPacket.dataInStream();
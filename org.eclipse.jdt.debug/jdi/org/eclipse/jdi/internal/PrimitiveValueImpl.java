@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,7 +28,7 @@ import com.sun.jdi.PrimitiveValue;
  */
 public abstract class PrimitiveValueImpl extends ValueImpl implements PrimitiveValue {
 	/** Primitive value in wrapper. */
-	Object fValue;
+	final Object fValue;
 
 	/**
 	 * Creates new ValueImpl.
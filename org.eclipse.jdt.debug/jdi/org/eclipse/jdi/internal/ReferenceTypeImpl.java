@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,8 +30,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpDataReader;
 import org.eclipse.jdi.internal.jdwp.JdwpFieldID;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpMethodID;
@@ -349,6 +352,61 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 
 	}
 
+	/**
+	 * Index of the lines of the Java stratum to the methods of this type that
+	 * have code at these lines, see {@link ReferenceTypeImpl#javaStratumLineIndex()}.
+	 */
+	private static class LineIndex {
+
+		/**
+		 * The lines, in ascending order.
+		 */
+		final int[] fLines;
+
+		/**
+		 * For each line, the position in {@link ReferenceTypeImpl#methods()}
+		 * of a method which has code at this line.
+		 */
+		final int[] fMethods;
+
+		/**
+		 * Whether this type has methods with code, with or without line
+		 * information.
+		 */
+		final boolean fHasCode;
+
+		/**
+		 * The reason why none of the methods of this type has line
+		 * information, or <code>null</code>.
+		 */
+		final AbsentInformationException fException;
+
+		LineIndex(int[] lines, int[] methods, boolean hasCode, AbsentInformationException exception) {
+			fLines = lines;
+			fMethods = methods;
+			fHasCode = hasCode;
+			fException = exception;
+		}
+
+		/**
+		 * @return Returns the position of the first entry for the given line,
+		 *         or the position where it would be if there is none.
+		 */
+		int firstPositionOfLine(int line) {
+			int low = 0;
+			int high = fLines.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (fLines[middle] < line) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+	}
+
 	/** ReferenceTypeID that corresponds to this reference. */
 	private JdwpReferenceTypeID fReferenceTypeID;
 
@@ -363,6 +421,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	private List<Field> fVisibleFields = null;
 	private List<InterfaceType> fAllInterfaces = null;
 	private Map<String, Map<String, List<Location>>> fStratumAllLineLocations = null;
+	private LineIndex fJavaStratumLineIndex = null;
 	private String fSourceName = null;
 	private int fModifierBits = -1;
 	private ClassLoaderReferenceImpl fClassLoader = null;
@@ -421,9 +480,21 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	public abstract byte typeTag();
 
 	/**
-	 * Flushes all stored Jdwp results.
+	 * Flushes all stored Jdwp results of this type, and the results of other
+	 * cached types that were derived from them. See
+	 * {@link VirtualMachineImpl#flushStoredJdwpResults(java.util.Collection)}.
 	 */
 	public void flushStoredJdwpResults() {
+		virtualMachineImpl().flushStoredJdwpResults(Collections.singletonList(this));
+	}
+
+	/**
+	 * Flushes the stored Jdwp results of this type itself, for example
+	 * because it has been redefined or unloaded.
+	 */
+	protected void flushOwnStoredJdwpResults() {
+		flushInheritedStoredJdwpResults();
+
 		// Flush Methods.
 		if (fMethods != null) {
 			for (Method method : fMethods) {
@@ -442,12 +513,8 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 
 		fInterfaces = null;
-		fAllMethods = null;
-		fVisibleMethods = null;
-		fAllFields = null;
-		fVisibleFields = null;
-		fAllInterfaces = null;
 		fStratumAllLineLocations = null;
+		fJavaStratumLineIndex = null;
 		fSourceName = null;
 		fModifierBits = -1;
 		fClassLoader = null;
@@ -469,6 +536,35 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		fSourceName = null;
 	}
 
+	/**
+	 * Flushes the stored Jdwp results of this type that are derived from its
+	 * supertypes, because the results of one of them have been flushed.
+	 */
+	protected void flushInheritedStoredJdwpResults() {
+		fAllMethods = null;
+		fVisibleMethods = null;
+		fAllFields = null;
+		fVisibleFields = null;
+		fAllInterfaces = null;
+	}
+
+	/**
+	 * @return Returns whether the stored Jdwp results of this type are
+	 *         derived from one of the given types, being a direct subtype of
+	 *         one of them.
+	 */
+	protected boolean dependsOn(Set<ReferenceTypeImpl> types) {
+		List<InterfaceType> interfaces = fInterfaces;
+		if (interfaces != null) {
+			for (InterfaceType type : interfaces) {
+				if (types.contains(type)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * @return Returns the interfaces declared as implemented by this class.
 	 *         Interfaces indirectly implemented (extended by the implemented
@@ -681,6 +777,8 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 				}
 				elements.add(ref);
 			}
+			// interfaces are mostly looked up by name, fetch them in one go
+			prefetchSignaturesAndModifiers(elements);
 			fInterfaces = elements;
 			return elements;
 		} catch (IOException e) {
@@ -1142,12 +1240,15 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					: JdwpCommandPacket.RT_METHODS;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			List<Method> elements = new ArrayList<>();
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+			// the reader decodes in place but has no verbose output
+			JdwpDataReader reader = fVerboseWriter == null ? replyPacket.dataReader() : null;
+			DataInputStream replyData = reader == null ? replyPacket.dataInStream() : null;
+			int nrOfElements = reader != null ? reader.readInt() : readInt("elements", replyData); //$NON-NLS-1$
+			List<Method> elements = new ArrayList<>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
-				MethodImpl elt = MethodImpl.readWithNameSignatureModifiers(
-						this, this, withGenericSignature, replyData);
+				MethodImpl elt = reader != null
+						? MethodImpl.readWithNameSignatureModifiers(this, this, withGenericSignature, reader)
+						: MethodImpl.readWithNameSignatureModifiers(this, this, withGenericSignature, replyData);
 				if (elt == null) {
 					continue;
 				}
@@ -1233,6 +1334,57 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 	}
 
+	/**
+	 * Retrieves the signatures and modifiers of the given types that are not
+	 * known yet. The requests for all types are sent before any reply is
+	 * awaited, so this takes a single round trip to the VM rather than two per
+	 * type.
+	 *
+	 * @param types
+	 *            types of one VM
+	 */
+	public static void prefetchSignaturesAndModifiers(List<? extends ReferenceType> types) {
+		List<ReferenceTypeImpl> pending = new ArrayList<>(types.size());
+		List<CompletableFuture<JdwpReplyPacket>> signatureReplies = new ArrayList<>(types.size());
+		List<CompletableFuture<JdwpReplyPacket>> modifierReplies = new ArrayList<>(types.size());
+		for (ReferenceType type : types) {
+			ReferenceTypeImpl typeImpl = (ReferenceTypeImpl) type;
+			if (typeImpl.fSignature != null && typeImpl.fModifierBits != -1) {
+				continue;
+			}
+			pending.add(typeImpl);
+			signatureReplies.add(typeImpl.fSignature == null ? typeImpl.requestVMAsync(JdwpCommandPacket.RT_SIGNATURE, typeImpl) : null);
+			modifierReplies.add(typeImpl.fModifierBits == -1 ? typeImpl.requestVMAsync(JdwpCommandPacket.RT_MODIFIERS, typeImpl) : null);
+		}
+		for (int i = 0; i < pending.size(); i++) {
+			ReferenceTypeImpl typeImpl = pending.get(i);
+			typeImpl.initJdwpRequest();
+			try {
+				CompletableFuture<JdwpReplyPacket> signatureReply = signatureReplies.get(i);
+				if (signatureReply != null) {
+					JdwpReplyPacket replyPacket = typeImpl.awaitReply(signatureReply);
+					if (replyPacket.errorCode() == JdwpReplyPacket.NONE) {
+						DataInputStream replyData = replyPacket.dataInStream();
+						typeImpl.setSignature(typeImpl.readString("signature", replyData)); //$NON-NLS-1$
+					}
+				}
+				CompletableFuture<JdwpReplyPacket> modifierReply = modifierReplies.get(i);
+				if (modifierReply != null) {
+					JdwpReplyPacket replyPacket = typeImpl.awaitReply(modifierReply);
+					if (replyPacket.errorCode() == JdwpReplyPacket.NONE) {
+						DataInputStream replyData = replyPacket.dataInStream();
+						typeImpl.fModifierBits = typeImpl.readInt(
+								"modifiers", AccessibleImpl.getModifierStrings(), replyData); //$NON-NLS-1$
+					}
+				}
+			} catch (IOException e) {
+				typeImpl.defaultIOExceptionHandler(e);
+			} finally {
+				typeImpl.handledJdwpRequest();
+			}
+		}
+	}
+
 	/**
 	 * @return Returns a List containing each ReferenceType declared within this
 	 *         type.
@@ -1412,6 +1564,32 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 						+ typeTag);
 	}
 
+	/**
+	 * @return Reads JDWP representation and returns new or cached instance.
+	 * @see #readWithTypeTagAndSignature(MirrorImpl, boolean, DataInputStream)
+	 */
+	public static ReferenceTypeImpl readWithTypeTagAndSignature(
+			MirrorImpl target, boolean withGenericSignature, JdwpDataReader in)
+			throws IOException {
+		byte typeTag = in.readByte();
+		switch (typeTag) {
+		case 0:
+			return null;
+		case ArrayTypeImpl.typeTag:
+			return ArrayTypeImpl.readWithSignature(target,
+					withGenericSignature, in);
+		case ClassTypeImpl.typeTag:
+			return ClassTypeImpl.readWithSignature(target,
+					withGenericSignature, in);
+		case InterfaceTypeImpl.typeTag:
+			return InterfaceTypeImpl.readWithSignature(target,
+					withGenericSignature, in);
+		}
+		throw new InternalException(
+				JDIMessages.ReferenceTypeImpl_Invalid_ReferenceTypeID_tag_encountered___8
+						+ typeTag);
+	}
+
 	/**
 	 * @return Returns new instance based on signature and classLoader.
 	 * @throws ClassNotLoadedException
@@ -1618,6 +1796,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			allLineLocations = sourceNameAllLineLocations.get(sourceName);
 		}
 		if (allLineLocations == null) { // the line locations are not known, compute and store them
+			MethodImpl.prefetchLineTables(methods());
 			allLineLocations = new ArrayList<>();
 			boolean hasLineInformation = false;
 			AbsentInformationException exception = null;
@@ -1646,29 +1825,90 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 */
 	@Override
 	public List<Location> locationsOfLine(String stratum, String sourceName, int lineNumber) throws AbsentInformationException {
-		Iterator<Method> allMethods = methods().iterator();
+		LineIndex index = javaStratumLineIndex();
 		List<Location> locations = new ArrayList<>();
+		if (!index.fHasCode) {
+			return locations;
+		}
+		// one line in the input source can be translate in multiple lines
+		// in different
+		// methods in the output source. We need all these locations.
+		List<Integer> javaLines = javaStratumLines(stratum, sourceName, lineNumber);
+		if (index.fException != null) {
+			throw index.fException;
+		}
+		// only the methods which have code at these lines are searched
+		List<Method> methods = methods();
+		boolean[] candidates = new boolean[methods.size()];
+		for (Integer javaLine : javaLines) {
+			int line = javaLine.intValue();
+			for (int i = index.firstPositionOfLine(line); i < index.fLines.length && index.fLines[i] == line; i++) {
+				candidates[index.fMethods[i]] = true;
+			}
+		}
+		for (int i = 0; i < candidates.length; i++) {
+			if (candidates[i]) {
+				locations.addAll(((MethodImpl) methods.get(i)).javaStratumLocationsOfLines(javaLines));
+			}
+		}
+		return locations;
+	}
+
+	/**
+	 * @return Returns the index of the lines of the Java stratum to the
+	 *         methods of this type, built from the line tables of all methods
+	 *         on first use.
+	 */
+	private LineIndex javaStratumLineIndex() {
+		LineIndex index = fJavaStratumLineIndex;
+		if (index != null) {
+			return index;
+		}
+		List<Method> methods = methods();
+		MethodImpl.prefetchLineTables(methods);
+		long[] entries = new long[0];
+		int count = 0;
+		boolean hasCode = false;
 		boolean hasLineInformation = false;
 		AbsentInformationException exception = null;
-		while (allMethods.hasNext()) {
-			MethodImpl method = (MethodImpl) allMethods.next();
+		for (int i = 0; i < methods.size(); i++) {
+			MethodImpl method = (MethodImpl) methods.get(i);
 			if (method.isAbstract() || method.isNative()) {
 				continue;
 			}
-			// one line in the input source can be translate in multiple lines
-			// in different
-			// methods in the output source. We need all these locations.
+			hasCode = true;
+			int[] lines;
 			try {
-				locations.addAll(locationsOfLine(stratum, sourceName, lineNumber, method));
+				lines = method.javaStratumLines();
 				hasLineInformation = true;
 			} catch (AbsentInformationException e) {
 				exception = e;
+				continue;
+			}
+			if (lines == null) {
+				continue;
+			}
+			if (count + lines.length > entries.length) {
+				entries = Arrays.copyOf(entries, Math.max(2 * entries.length, count + lines.length));
+			}
+			for (int line : lines) {
+				entries[count++] = ((long) line << 32) | i;
 			}
 		}
-		if (!hasLineInformation && exception != null) {
-			throw exception;
+		// sort by line then method, dropping duplicates
+		Arrays.sort(entries, 0, count);
+		int[] lines = new int[count];
+		int[] methodPositions = new int[count];
+		int length = 0;
+		for (int i = 0; i < count; i++) {
+			if (i == 0 || entries[i] != entries[i - 1]) {
+				lines[length] = (int) (entries[i] >> 32);
+				methodPositions[length++] = (int) entries[i];
+			}
 		}
-		return locations;
+		index = new LineIndex(Arrays.copyOf(lines, length), Arrays.copyOf(methodPositions, length), hasCode, hasLineInformation ? null : exception);
+		fJavaStratumLineIndex = index;
+		return index;
 	}
 
 	/* (non-Javadoc)
@@ -2014,6 +2254,25 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 *             if the specified sourceName is not valid.
 	 */
 	public List<Location> locationsOfLine(String stratumId, String sourceName, int lineNumber, MethodImpl method)	throws AbsentInformationException {
+		return method.javaStratumLocationsOfLines(javaStratumLines(stratumId, sourceName, lineNumber));
+	}
+
+	/**
+	 * Return the lines of the Java stratum which are part of the translation
+	 * of the given line, in the given stratum in the source file with the
+	 * given source name. If sourceName is <code>null</code>, return the lines
+	 * for all source file in the given stratum.
+	 *
+	 * @param stratumId
+	 *            the stratum id.
+	 * @param sourceName
+	 *            the name of the source file.
+	 * @param lineNumber
+	 *            the number of the line.
+	 * @throws AbsentInformationException
+	 *             if the specified sourceName is not valid.
+	 */
+	private List<Integer> javaStratumLines(String stratumId, String sourceName, int lineNumber) throws AbsentInformationException {
 		Stratum stratum = getStratum(stratumId);
 		List<Integer> javaLines = new ArrayList<>();
 		if (stratum != null) {
@@ -2030,7 +2289,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		} else { // Java stratum
 			javaLines.add(Integer.valueOf(lineNumber));
 		}
-		return method.javaStratumLocationsOfLines(javaLines);
+		return javaLines;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,14 +15,21 @@ package org.eclipse.jdi.internal;
 
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpStringID;
 
+import com.sun.jdi.Field;
 import com.sun.jdi.ObjectCollectedException;
+import com.sun.jdi.PrimitiveValue;
+import com.sun.jdi.ReferenceType;
 import com.sun.jdi.StringReference;
+import com.sun.jdi.Value;
 
 /**
  * this class implements the corresponding interfaces declared by the JDI
@@ -34,6 +41,9 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 	/** JDWP Tag. */
 	public static final byte tag = JdwpID.STRING_TAG;
 
+	/** Value of the <code>coder</code> field of a string encoded in UTF-16. */
+	private static final int UTF16 = 1;
+
 	/**
 	 * Creates new StringReferenceImpl.
 	 */
@@ -54,15 +64,24 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 	 */
 	@Override
 	public String value() {
-		// Note that this information should not be cached.
+		StringValueCache cache = virtualMachineImpl().stringValueCache();
+		long id = getObjectID().value();
+		String cached = cache.value(id);
+		if (cached != null) {
+			return cached;
+		}
 		initJdwpRequest();
 		try {
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.SR_VALUE,
 					this);
+			if (replyPacket.errorCode() == JdwpReplyPacket.INVALID_OBJECT) {
+				cache.remove(id);
+			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
 			DataInputStream replyData = replyPacket.dataInStream();
 			String result = readString("value", replyData); //$NON-NLS-1$
+			cache.put(id, result, true);
 			return result;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -72,6 +91,179 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 		}
 	}
 
+	/**
+	 * Returns the first characters of this string, for example to label it.
+	 * When the layout of <code>java.lang.String</code> in the target is known,
+	 * only the requested characters are read from the array holding the
+	 * characters of the string, instead of transferring the complete value.
+	 *
+	 * @param maxLength
+	 *            the maximum number of characters to return
+	 * @return Returns the first <code>maxLength</code> characters of this
+	 *         string, or the complete value if it is shorter.
+	 */
+	public String value(int maxLength) {
+		StringValueCache cache = virtualMachineImpl().stringValueCache();
+		long id = getObjectID().value();
+		String cached = cache.prefix(id, maxLength);
+		if (cached != null) {
+			return cached;
+		}
+		String prefix = readPrefix(cache, id, maxLength);
+		if (prefix != null) {
+			return prefix;
+		}
+		String value = value();
+		if (value != null && value.length() > maxLength) {
+			return value.substring(0, maxLength);
+		}
+		return value;
+	}
+
+	/**
+	 * Reads the first characters of this string from the array holding its
+	 * characters, and caches them. Once the layout of
+	 * <code>java.lang.String</code> is resolved, this takes two round trips to
+	 * the VM: one for the fields of the string, and one for the length and the
+	 * leading components of the array.
+	 *
+	 * @return Returns the first <code>maxLength</code> characters of this
+	 *         string, or <code>null</code> if the layout of
+	 *         <code>java.lang.String</code> in the target is not supported or
+	 *         the string is shorter than <code>maxLength</code> characters.
+	 */
+	private String readPrefix(StringValueCache cache, long id, int maxLength) {
+		FieldImpl valueField;
+		FieldImpl coderField;
+		synchronized (cache) {
+			if (!cache.fLayoutResolved) {
+				resolveLayout(cache);
+			}
+			valueField = cache.fValueField;
+			coderField = cache.fCoderField;
+		}
+		if (valueField == null) {
+			return null;
+		}
+		List<Field> fields = new ArrayList<>(2);
+		fields.add(valueField);
+		if (coderField != null) {
+			fields.add(coderField);
+		}
+		Map<Field, Value> values = getValues(fields);
+		Value array = values.get(valueField);
+		if (!(array instanceof ArrayReferenceImpl)) {
+			return null;
+		}
+		boolean utf16 = coderField != null
+				&& ((PrimitiveValue) values.get(coderField)).intValue() == UTF16;
+		int hiByteShift = 0;
+		if (utf16) {
+			hiByteShift = hiByteShift(cache);
+			if (hiByteShift < 0) {
+				return null;
+			}
+		}
+
+		ArrayReferenceImpl chars = (ArrayReferenceImpl) array;
+		int componentsPerChar = utf16 ? 2 : 1;
+		Object components = null;
+		if (maxLength > 0) {
+			components = chars.getLeadingPrimitiveValues(componentsPerChar * maxLength);
+			if (components == null) {
+				// shorter than the prefix, read it completely in one request
+				// rather than one more for its components
+				return null;
+			}
+		}
+		int length = chars.length() / componentsPerChar;
+		int prefixLength = Math.min(length, maxLength);
+		String prefix;
+		if (prefixLength == 0) {
+			prefix = ""; //$NON-NLS-1$
+		} else if (components instanceof char[]) {
+			prefix = new String((char[]) components);
+		} else if (components instanceof byte[]) {
+			byte[] bytes = (byte[]) components;
+			char[] decoded = new char[prefixLength];
+			for (int i = 0; i < prefixLength; i++) {
+				if (utf16) {
+					decoded[i] = (char) (((bytes[2 * i] & 0xff) << hiByteShift)
+							| ((bytes[2 * i + 1] & 0xff) << (8 - hiByteShift)));
+				} else {
+					decoded[i] = (char) (bytes[i] & 0xff);
+				}
+			}
+			prefix = new String(decoded);
+		} else {
+			return null;
+		}
+		cache.put(id, prefix, prefixLength == length);
+		return prefix;
+	}
+
+	/**
+	 * Resolves the fields of <code>java.lang.String</code> that hold its
+	 * characters. Only layouts where the characters of a string fill an array
+	 * of chars, or of bytes encoded as told by a <code>coder</code> field, are
+	 * supported, not layouts with an offset and count into a shared array.
+	 */
+	private void resolveLayout(StringValueCache cache) {
+		cache.fLayoutResolved = true;
+		ReferenceTypeImpl type = (ReferenceTypeImpl) referenceType();
+		if (type.fieldByName("count") != null) { //$NON-NLS-1$
+			return;
+		}
+		cache.fValueField = (FieldImpl) type.fieldByName("value"); //$NON-NLS-1$
+		cache.fCoderField = (FieldImpl) type.fieldByName("coder"); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return Returns the shift of the high byte of the UTF-16 characters of
+	 *         strings in the target, as told by
+	 *         <code>java.lang.StringUTF16</code>, or -1 if unknown.
+	 *         It is looked up once the class is loaded.
+	 */
+	private int hiByteShift(StringValueCache cache) {
+		synchronized (cache) {
+			if (cache.fHiByteShiftResolved) {
+				return cache.fHiByteShift;
+			}
+		}
+		List<ReferenceType> types = virtualMachineImpl().classesByName("java.lang.StringUTF16"); //$NON-NLS-1$
+		int hiByteShift = -1;
+		for (ReferenceType type : types) {
+			Field field = type.fieldByName("HI_BYTE_SHIFT"); //$NON-NLS-1$
+			if (field != null && field.isStatic()) {
+				Value shift = type.getValue(field);
+				if (shift instanceof PrimitiveValue
+						&& (((PrimitiveValue) shift).intValue() == 0 || ((PrimitiveValue) shift).intValue() == 8)) {
+					hiByteShift = ((PrimitiveValue) shift).intValue();
+					break;
+				}
+			}
+		}
+		synchronized (cache) {
+			// not looked up again unless the class is not loaded yet
+			cache.fHiByteShiftResolved = !types.isEmpty();
+			cache.fHiByteShift = hiByteShift;
+		}
+		return hiByteShift;
+	}
+
+	/**
+	 * @return Returns if this object has been garbage collected in the target
+	 *         VM, forgetting its value if so.
+	 */
+	@Override
+	public boolean isCollected() {
+		boolean collected = super.isCollected();
+		if (collected) {
+			virtualMachineImpl().stringValueCache().remove(getObjectID().value());
+		}
+		return collected;
+	}
+
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
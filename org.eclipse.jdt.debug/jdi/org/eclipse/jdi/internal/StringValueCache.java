@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+
+/**
+ * Cache of the values of string objects, keyed by the value of their JDWP id,
+ * holding either the complete value of a string or a prefix of it. See
+ * {@link StringReferenceImpl#value()} and
+ * {@link StringReferenceImpl#value(int)}.
+ * <p>
+ * Strings are immutable and JDWP does not reuse the id of an object unless it
+ * has been disposed, so a cached value stays correct as long as the object
+ * exists. The cache is nevertheless emptied whenever the target resumes, so
+ * that it only holds the strings of the current suspension. The number of
+ * characters held is bounded, least recently used values being evicted
+ * first.
+ * </p>
+ */
+class StringValueCache {
+
+	/** Maximum number of characters held by the cache. */
+	private static final int MAX_CHARS = 1 << 20;
+
+	/** Maximum length of a single cached value. */
+	private static final int MAX_VALUE_LENGTH = MAX_CHARS / 8;
+
+	/**
+	 * Cached value of a string.
+	 */
+	private static final class Entry {
+		final String fValue;
+		final boolean fComplete;
+
+		Entry(String value, boolean complete) {
+			fValue = value;
+			fComplete = complete;
+		}
+	}
+
+	/**
+	 * Layout of <code>java.lang.String</code> in the target, resolved by
+	 * {@link StringReferenceImpl} on first use and guarded by this cache: the
+	 * field holding the characters, the field telling how they are encoded if
+	 * any, and the shift of the high byte of UTF-16 characters encoded in
+	 * bytes.
+	 */
+	boolean fLayoutResolved = false;
+	FieldImpl fValueField;
+	FieldImpl fCoderField;
+	boolean fHiByteShiftResolved = false;
+	int fHiByteShift = -1;
+
+	/** Cached values, least recently used first. */
+	private final Map<Long, Entry> fEntries = new LinkedHashMap<>(64, 0.75f, true);
+
+	/** Number of characters held by {@link #fEntries}. */
+	private int fChars = 0;
+
+	/**
+	 * @return Returns the complete value of the string with the given id, or
+	 *         <code>null</code> if it is not cached.
+	 */
+	synchronized String value(long id) {
+		Entry entry = fEntries.get(Long.valueOf(id));
+		if (entry == null || !entry.fComplete) {
+			return null;
+		}
+		return entry.fValue;
+	}
+
+	/**
+	 * @return Returns the first <code>length</code> characters of the string
+	 *         with the given id, or the complete value if it is shorter, or
+	 *         <code>null</code> if not enough of it is cached.
+	 */
+	synchronized String prefix(long id, int length) {
+		Entry entry = fEntries.get(Long.valueOf(id));
+		if (entry == null) {
+			return null;
+		}
+		if (entry.fValue.length() > length) {
+			return entry.fValue.substring(0, length);
+		}
+		return entry.fComplete || entry.fValue.length() == length ? entry.fValue : null;
+	}
+
+	/**
+	 * Caches the complete value or a prefix of the value of the string with
+	 * the given id. A cached complete value is not replaced by a prefix.
+	 */
+	synchronized void put(long id, String value, boolean complete) {
+		if (value.length() > MAX_VALUE_LENGTH) {
+			return;
+		}
+		Long key = Long.valueOf(id);
+		Entry previous = fEntries.get(key);
+		if (previous != null) {
+			if (previous.fComplete && !complete) {
+				return;
+			}
+			fChars -= previous.fValue.length();
+		}
+		fEntries.put(key, new Entry(value, complete));
+		fChars += value.length();
+		Iterator<Entry> iter = fEntries.values().iterator();
+		while (fChars > MAX_CHARS && iter.hasNext()) {
+			fChars -= iter.next().fValue.length();
+			iter.remove();
+		}
+	}
+
+	/**
+	 * Forgets the value of the string with the given id, for example because
+	 * it has been collected.
+	 */
+	synchronized void remove(long id) {
+		Entry entry = fEntries.remove(Long.valueOf(id));
+		if (entry != null) {
+			fChars -= entry.fValue.length();
+		}
+	}
+
+	/**
+	 * Empties the cache if the given command resumes the target or may cause
+	 * ids to be reused. Called before the command is sent.
+	 */
+	void commandSending(int command) {
+		switch (command) {
+		case JdwpCommandPacket.VM_RESUME:
+		case JdwpCommandPacket.TR_RESUME:
+		case JdwpCommandPacket.VM_DISPOSE:
+		case JdwpCommandPacket.VM_DISPOSE_OBJECTS:
+			synchronized (this) {
+				fEntries.clear();
+				fChars = 0;
+			}
+			break;
+		default:
+			break;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdi.OpaqueFrameException;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
@@ -37,6 +38,7 @@ import com.sun.jdi.IncompatibleThreadStateException;
 import com.sun.jdi.InternalException;
 import com.sun.jdi.InvalidStackFrameException;
 import com.sun.jdi.InvalidTypeException;
+import com.sun.jdi.Method;
 import com.sun.jdi.NativeMethodException;
 import com.sun.jdi.ObjectCollectedException;
 import com.sun.jdi.ObjectReference;
@@ -223,6 +225,10 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 	 */
 	@Override
 	public int frameCount() throws IncompatibleThreadStateException {
+		ThreadSnapshot.ThreadState state = snapshotState();
+		if (state != null) {
+			return state.fFrameCount;
+		}
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
@@ -263,6 +269,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 	public List<StackFrame> frames(int start, int length) throws IndexOutOfBoundsException,
 			IncompatibleThreadStateException {
 		// Note that this information should not be cached.
+		List<StackFrame> frames;
 		initJdwpRequest();
 		try {
 			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
@@ -287,7 +294,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 
 			DataInputStream replyData = replyPacket.dataInStream();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			List<StackFrame> frames = new ArrayList<>(nrOfElements);
+			frames = new ArrayList<>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
 				StackFrameImpl frame = StackFrameImpl.readWithLocation(this,
 						this, replyData);
@@ -296,13 +303,22 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 				}
 				frames.add(frame);
 			}
-			return frames;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
 		} finally {
 			handledJdwpRequest();
 		}
+		if (frames.size() > 1) {
+			// the line numbers of the frames are usually needed together,
+			// retrieve the line tables of their methods in one round trip
+			List<Method> methods = new ArrayList<>(frames.size());
+			for (StackFrame frame : frames) {
+				methods.add(frame.location().method());
+			}
+			MethodImpl.prefetchLineTables(methods);
+		}
+		return frames;
 	}
 
 	/* (non-Javadoc)
@@ -332,6 +348,9 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 	 */
 	@Override
 	public boolean isSuspended() {
+		if (snapshotState() != null) {
+			return true;
+		}
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
@@ -399,17 +418,13 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 	 */
 	@Override
 	public String name() {
+		ThreadSnapshot.ThreadState state = snapshotState();
+		if (state != null) {
+			return state.fName;
+		}
 		initJdwpRequest();
 		try {
-			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.TR_NAME,
-					this);
-			switch (replyPacket.errorCode()) {
-			case JdwpReplyPacket.INVALID_THREAD:
-				throw new ObjectCollectedException();
-			}
-			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			return readString("name", replyData); //$NON-NLS-1$
+			return readName(requestVM(JdwpCommandPacket.TR_NAME, this));
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -418,6 +433,19 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		}
 	}
 
+	/**
+	 * @return Returns the thread name contained in the given reply.
+	 */
+	private String readName(JdwpReplyPacket replyPacket) throws IOException {
+		switch (replyPacket.errorCode()) {
+		case JdwpReplyPacket.INVALID_THREAD:
+			throw new ObjectCollectedException();
+		}
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		DataInputStream replyData = replyPacket.dataInStream();
+		return readString("name", replyData); //$NON-NLS-1$
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.ThreadReference#ownedMonitors()
 	 */
@@ -529,39 +557,14 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 	 */
 	@Override
 	public int status() {
+		ThreadSnapshot.ThreadState state = snapshotState();
+		if (state != null) {
+			return state.fStatus;
+		}
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.TR_STATUS, this);
-			switch (replyPacket.errorCode()) {
-			case JdwpReplyPacket.ABSENT_INFORMATION:
-				return THREAD_STATUS_UNKNOWN;
-			case JdwpReplyPacket.INVALID_THREAD:
-				return THREAD_STATUS_NOT_STARTED;
-			}
-			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			int threadStatus = readInt(
-					"thread status", threadStatusMap(), replyData); //$NON-NLS-1$
-			readInt("suspend status", suspendStatusStrings(), replyData); //$NON-NLS-1$
-			switch (threadStatus) {
-			case JDWP_THREAD_STATUS_ZOMBIE:
-				return THREAD_STATUS_ZOMBIE;
-			case JDWP_THREAD_STATUS_RUNNING:
-				return THREAD_STATUS_RUNNING;
-			case JDWP_THREAD_STATUS_SLEEPING:
-				return THREAD_STATUS_SLEEPING;
-			case JDWP_THREAD_STATUS_MONITOR:
-				return THREAD_STATUS_MONITOR;
-			case JDWP_THREAD_STATUS_WAIT:
-				return THREAD_STATUS_WAIT;
-			case -1: // see bug 30816
-				return THREAD_STATUS_UNKNOWN;
-			}
-			throw new InternalException(
-					JDIMessages.ThreadReferenceImpl_Unknown_thread_status_received___6
-							+ threadStatus);
+			return readStatus(requestVM(JdwpCommandPacket.TR_STATUS, this));
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return 0;
@@ -570,6 +573,119 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		}
 	}
 
+	/**
+	 * @return Returns the thread status contained in the given reply.
+	 */
+	private int readStatus(JdwpReplyPacket replyPacket) throws IOException {
+		switch (replyPacket.errorCode()) {
+		case JdwpReplyPacket.ABSENT_INFORMATION:
+			return THREAD_STATUS_UNKNOWN;
+		case JdwpReplyPacket.INVALID_THREAD:
+			return THREAD_STATUS_NOT_STARTED;
+		}
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		DataInputStream replyData = replyPacket.dataInStream();
+		int threadStatus = readInt(
+				"thread status", threadStatusMap(), replyData); //$NON-NLS-1$
+		readInt("suspend status", suspendStatusStrings(), replyData); //$NON-NLS-1$
+		switch (threadStatus) {
+		case JDWP_THREAD_STATUS_ZOMBIE:
+			return THREAD_STATUS_ZOMBIE;
+		case JDWP_THREAD_STATUS_RUNNING:
+			return THREAD_STATUS_RUNNING;
+		case JDWP_THREAD_STATUS_SLEEPING:
+			return THREAD_STATUS_SLEEPING;
+		case JDWP_THREAD_STATUS_MONITOR:
+			return THREAD_STATUS_MONITOR;
+		case JDWP_THREAD_STATUS_WAIT:
+			return THREAD_STATUS_WAIT;
+		case -1: // see bug 30816
+			return THREAD_STATUS_UNKNOWN;
+		}
+		throw new InternalException(
+				JDIMessages.ThreadReferenceImpl_Unknown_thread_status_received___6
+						+ threadStatus);
+	}
+
+	/**
+	 * @return Returns the state of this thread in the thread snapshot of the
+	 *         VM, or <code>null</code> if there is no snapshot or this thread
+	 *         was not suspended when it was taken.
+	 */
+	private ThreadSnapshot.ThreadState snapshotState() {
+		ThreadSnapshot snapshot = virtualMachineImpl().threadSnapshot();
+		return snapshot == null ? null : snapshot.stateOf(this);
+	}
+
+	/**
+	 * Retrieves the name, status, frame count and thread group of the given
+	 * threads. The requests for all threads are sent before any reply is
+	 * awaited, so this takes a single round trip to the VM rather than several
+	 * per thread.
+	 *
+	 * @param threads
+	 *            threads of one VM
+	 * @return a snapshot holding the state of the given threads that are
+	 *         suspended
+	 * @see VirtualMachineImpl#takeThreadSnapshot()
+	 */
+	static ThreadSnapshot snapshot(List<ThreadReference> threads) {
+		int size = threads.size();
+		List<CompletableFuture<JdwpReplyPacket>> statusReplies = new ArrayList<>(size);
+		List<CompletableFuture<JdwpReplyPacket>> nameReplies = new ArrayList<>(size);
+		List<CompletableFuture<JdwpReplyPacket>> frameCountReplies = new ArrayList<>(size);
+		List<CompletableFuture<JdwpReplyPacket>> threadGroupReplies = new ArrayList<>(size);
+		for (ThreadReference thread : threads) {
+			ThreadReferenceImpl threadImpl = (ThreadReferenceImpl) thread;
+			statusReplies.add(threadImpl.requestVMAsync(JdwpCommandPacket.TR_STATUS, threadImpl));
+			nameReplies.add(threadImpl.requestVMAsync(JdwpCommandPacket.TR_NAME, threadImpl));
+			frameCountReplies.add(threadImpl.requestVMAsync(JdwpCommandPacket.TR_FRAME_COUNT, threadImpl));
+			// a thread's thread group cannot change, it is only retrieved once
+			threadGroupReplies.add(threadImpl.fThreadGroup == null
+					? threadImpl.requestVMAsync(JdwpCommandPacket.TR_THREAD_GROUP, threadImpl)
+					: null);
+		}
+		Map<ThreadReferenceImpl, ThreadSnapshot.ThreadState> states = new HashMap<>(size);
+		for (int i = 0; i < size; i++) {
+			ThreadReferenceImpl threadImpl = (ThreadReferenceImpl) threads.get(i);
+			threadImpl.initJdwpRequest();
+			try {
+				CompletableFuture<JdwpReplyPacket> threadGroupReply = threadGroupReplies.get(i);
+				if (threadGroupReply != null) {
+					JdwpReplyPacket replyPacket = threadImpl.awaitReply(threadGroupReply);
+					if (replyPacket.errorCode() == JdwpReplyPacket.NONE) {
+						threadImpl.fThreadGroup = ThreadGroupReferenceImpl.read(threadImpl, replyPacket.dataInStream());
+					}
+				}
+				JdwpReplyPacket statusReply = threadImpl.awaitReply(statusReplies.get(i));
+				String name = threadImpl.readName(threadImpl.awaitReply(nameReplies.get(i)));
+				JdwpReplyPacket frameCountReply = threadImpl.awaitReply(frameCountReplies.get(i));
+				if (statusReply.errorCode() != JdwpReplyPacket.NONE
+						|| frameCountReply.errorCode() != JdwpReplyPacket.NONE) {
+					// not suspended or no longer alive, the thread is queried
+					// directly
+					continue;
+				}
+				DataInputStream replyData = statusReply.dataInStream();
+				threadImpl.readInt("thread status", threadStatusMap(), replyData); //$NON-NLS-1$
+				int suspendStatus = threadImpl.readInt("suspend status", suspendStatusStrings(), replyData); //$NON-NLS-1$
+				if (suspendStatus != SUSPEND_STATUS_SUSPENDED) {
+					continue;
+				}
+				int status = threadImpl.readStatus(statusReply);
+				int frameCount = threadImpl.readInt("frame count", frameCountReply.dataInStream()); //$NON-NLS-1$
+				states.put(threadImpl, new ThreadSnapshot.ThreadState(name, status, frameCount));
+			} catch (ObjectCollectedException e) {
+				// the thread is no longer alive, leave it out
+			} catch (IOException e) {
+				threadImpl.defaultIOExceptionHandler(e);
+			} finally {
+				threadImpl.handledJdwpRequest();
+			}
+		}
+		return new ThreadSnapshot(threads, states);
+	}
+
 	/**
 	 * Stops this thread with an asynchronous exception.
 	 *
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+
+import com.sun.jdi.ThreadReference;
+
+/**
+ * State of the threads of a VM, retrieved for all threads at once. See
+ * {@link VirtualMachineImpl#takeThreadSnapshot()}.
+ * <p>
+ * Only the state of threads that were suspended when the snapshot was taken
+ * is kept, as a suspended thread cannot change its state before it is resumed
+ * or used to invoke a method. The snapshot is discarded by the VM as soon as
+ * such a command is sent.
+ * </p>
+ */
+public class ThreadSnapshot {
+
+	/**
+	 * State of a suspended thread.
+	 */
+	static class ThreadState {
+		final String fName;
+		final int fStatus;
+		final int fFrameCount;
+
+		ThreadState(String name, int status, int frameCount) {
+			fName = name;
+			fStatus = status;
+			fFrameCount = frameCount;
+		}
+	}
+
+	private final List<ThreadReference> fThreads;
+
+	private final Map<ThreadReferenceImpl, ThreadState> fStates;
+
+	ThreadSnapshot(List<ThreadReference> threads, Map<ThreadReferenceImpl, ThreadState> states) {
+		fThreads = Collections.unmodifiableList(new ArrayList<>(threads));
+		fStates = new HashMap<>(states);
+	}
+
+	/**
+	 * @return Returns the threads of the VM when the snapshot was taken.
+	 */
+	public List<ThreadReference> threads() {
+		return fThreads;
+	}
+
+	/**
+	 * @return Returns whether the given thread was suspended when the snapshot
+	 *         was taken, in which case its state is part of the snapshot.
+	 */
+	public boolean isSuspended(ThreadReference thread) {
+		return fStates.containsKey(thread);
+	}
+
+	/**
+	 * @return Returns the state of the given thread, or <code>null</code> if
+	 *         it was not suspended when the snapshot was taken.
+	 */
+	ThreadState stateOf(ThreadReferenceImpl thread) {
+		return fStates.get(thread);
+	}
+
+	/**
+	 * @return Returns whether the given command can change the state of a
+	 *         suspended thread, and hence invalidates a snapshot.
+	 */
+	static boolean changesThreadState(int command) {
+		switch (command) {
+		case JdwpCommandPacket.VM_RESUME:
+		case JdwpCommandPacket.VM_DISPOSE:
+		case JdwpCommandPacket.VM_EXIT:
+		case JdwpCommandPacket.TR_RESUME:
+		case JdwpCommandPacket.TR_STOP:
+		case JdwpCommandPacket.TR_INTERRUPT:
+		case JdwpCommandPacket.SF_POP_FRAME:
+		case JdwpCommandPacket.HCR_DO_RETURN:
+		// a thread runs while it invokes a method
+		case JdwpCommandPacket.CT_INVOKE_METHOD:
+		case JdwpCommandPacket.CT_NEW_INSTANCE:
+		case JdwpCommandPacket.IT_INVOKE_METHOD:
+		case JdwpCommandPacket.OR_INVOKE_METHOD:
+			return true;
+		default:
+			return false;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -331,18 +331,18 @@ public abstract class ValueImpl extends MirrorImpl implements Value {
 		case 'J':
 			if (valueTypeSignature != 'Z' && valueTypeSignature != 'D'
 					&& valueTypeSignature != 'F') {
-				return new LongValueImpl(vm, Long.valueOf(value.longValue()));
+				return vm.mirrorOf(value.longValue());
 			}
 			break;
 		case 'I':
 			if (valueTypeSignature == 'B' || valueTypeSignature == 'C'
 					|| valueTypeSignature == 'S') {
-				return new IntegerValueImpl(vm, Integer.valueOf(value.intValue()));
+				return vm.mirrorOf(value.intValue());
 			}
 			break;
 		case 'S':
 			if (valueTypeSignature == 'B') {
-				return new ShortValueImpl(vm, Short.valueOf(value.shortValue()));
+				return vm.mirrorOf(value.shortValue());
 			}
 			break;
 		}
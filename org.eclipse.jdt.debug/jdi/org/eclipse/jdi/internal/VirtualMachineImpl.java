@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,33 +20,32 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdi.Bootstrap;
 import org.eclipse.jdi.internal.connect.PacketReceiveManager;
 import org.eclipse.jdi.internal.connect.PacketSendManager;
 import org.eclipse.jdi.internal.event.EventQueueImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpArrayID;
+import org.eclipse.jdi.internal.jdwp.JdwpClassID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpDataReader;
+import org.eclipse.jdi.internal.jdwp.JdwpInterfaceID;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpReferenceTypeID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
 import org.eclipse.osgi.util.NLS;
 
-import com.sun.jdi.BooleanValue;
-import com.sun.jdi.ByteValue;
-import com.sun.jdi.CharValue;
-import com.sun.jdi.DoubleValue;
-import com.sun.jdi.FloatValue;
-import com.sun.jdi.IntegerValue;
-import com.sun.jdi.LongValue;
 import com.sun.jdi.ObjectCollectedException;
 import com.sun.jdi.ReferenceType;
-import com.sun.jdi.ShortValue;
 import com.sun.jdi.StringReference;
 import com.sun.jdi.ThreadGroupReference;
 import com.sun.jdi.ThreadReference;
@@ -96,8 +95,41 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * optional: their only purpose is to speed up the debugger by being able to
 	 * use the stored results of JDWP calls.
 	 */
-	private ValueCache fCachedReftypes = new ValueCache();
-	private ValueCache fCachedObjects = new ValueCache();
+	private MirrorCache<ReferenceTypeImpl> fCachedReftypes = new MirrorCache<>();
+	private MirrorCache<ObjectReferenceImpl> fCachedObjects = new MirrorCache<>();
+
+	/**
+	 * Ids of the loaded types by signature, seeded from {@link #allClasses()}
+	 * on first use and kept up to date from class prepare and unload events,
+	 * or <code>null</code> if seeding has not started. Guarded by itself. Ids
+	 * are held rather than mirrors, so that the mirrors of types which are not
+	 * in use can be reclaimed from {@link #fCachedReftypes}.
+	 */
+	private volatile Map<String, List<JdwpReferenceTypeID>> fLoadedTypes;
+
+	/** Whether {@link #fLoadedTypes} has been seeded. */
+	private volatile boolean fLoadedTypesSeeded = false;
+
+	private final Object fLoadedTypesLock = new Object();
+
+	/** Values of string objects of the current suspension. */
+	private final StringValueCache fStringValueCache = new StringValueCache();
+
+	/**
+	 * Interned mirrors of common primitive values: both booleans, all bytes,
+	 * ASCII characters and shorts, integers and longs from
+	 * {@link #INTERNED_MIN} to {@link #INTERNED_MAX}. Primitive values are
+	 * immutable, so one mirror serves all reads of the same value.
+	 */
+	private static final int INTERNED_MIN = -128;
+	private static final int INTERNED_MAX = 127;
+	private final BooleanValueImpl fFalseValue;
+	private final BooleanValueImpl fTrueValue;
+	private final ByteValueImpl[] fByteValues = new ByteValueImpl[INTERNED_MAX - INTERNED_MIN + 1];
+	private final CharValueImpl[] fCharValues = new CharValueImpl[INTERNED_MAX + 1];
+	private final ShortValueImpl[] fShortValues = new ShortValueImpl[INTERNED_MAX - INTERNED_MIN + 1];
+	private final IntegerValueImpl[] fIntegerValues = new IntegerValueImpl[INTERNED_MAX - INTERNED_MIN + 1];
+	private final LongValueImpl[] fLongValues = new LongValueImpl[INTERNED_MAX - INTERNED_MIN + 1];
 
 	/** The following are the stored results of JDWP calls. */
 	private String fVersionDescription = null; // Text information on the VM
@@ -162,6 +194,45 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	private PacketReceiveManager fPacketReceiveManager;
 	private PacketSendManager fPacketSendManager;
 
+	/**
+	 * Sequence of ids for command packets sent to this VM. Each VM has its own
+	 * id space, so that requests to different VMs do not contend for ids.
+	 */
+	private final AtomicInteger fNextPacketId = new AtomicInteger(1);
+
+	/**
+	 * Whether the packet id sequence has wrapped around, after which ids must
+	 * be checked against requests that are still outstanding.
+	 */
+	private volatile boolean fPacketIdsWrapped = false;
+
+	/**
+	 * Snapshot of the state of the threads, or <code>null</code> if none has
+	 * been taken since the threads last changed state.
+	 */
+	private volatile ThreadSnapshot fThreadSnapshot;
+
+	/**
+	 * Incremented whenever the threads may change state, so that a snapshot
+	 * that was being taken at that time is not kept.
+	 */
+	private int fThreadStateChanges = 0;
+
+	/**
+	 * Whether a snapshot is to be taken by the next query of the state of a
+	 * thread.
+	 */
+	private volatile boolean fThreadSnapshotRequested = false;
+
+	/**
+	 * Lock for {@link #fThreadSnapshot}, {@link #fThreadStateChanges} and
+	 * {@link #fThreadSnapshotRequested}.
+	 */
+	private final Object fThreadSnapshotLock = new Object();
+
+	/** Lock held while a requested snapshot is taken. */
+	private final Object fThreadSnapshotTakeLock = new Object();
+
 	/**
 	 * Creates a new Virtual Machine.
 	 */
@@ -169,6 +240,18 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		super("VirtualMachine"); //$NON-NLS-1$
 		fEventReqMgr = new EventRequestManagerImpl(this);
 		fEventQueue = new EventQueueImpl(this);
+
+		fFalseValue = new BooleanValueImpl(this, Boolean.FALSE);
+		fTrueValue = new BooleanValueImpl(this, Boolean.TRUE);
+		for (int i = INTERNED_MIN; i <= INTERNED_MAX; i++) {
+			fByteValues[i - INTERNED_MIN] = new ByteValueImpl(this, Byte.valueOf((byte) i));
+			fShortValues[i - INTERNED_MIN] = new ShortValueImpl(this, Short.valueOf((short) i));
+			fIntegerValues[i - INTERNED_MIN] = new IntegerValueImpl(this, Integer.valueOf(i));
+			fLongValues[i - INTERNED_MIN] = new LongValueImpl(this, Long.valueOf(i));
+			if (i >= 0) {
+				fCharValues[i] = new CharValueImpl(this, Character.valueOf((char) i));
+			}
+		}
 		fRequestTimeout = ((VirtualMachineManagerImpl) Bootstrap
 				.virtualMachineManager()).getGlobalRequestTimeout();
 
@@ -226,14 +309,14 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * @return Returns cached mirror object, or null if method is not in cache.
 	 */
 	public ReferenceTypeImpl getCachedMirror(JdwpReferenceTypeID ID) {
-		return (ReferenceTypeImpl) fCachedReftypes.get(ID);
+		return fCachedReftypes.get(ID);
 	}
 
 	/**
 	 * @return Returns cached mirror object, or null if method is not in cache.
 	 */
 	public ObjectReferenceImpl getCachedMirror(JdwpObjectID ID) {
-		return (ObjectReferenceImpl) fCachedObjects.get(ID);
+		return fCachedObjects.get(ID);
 	}
 
 	/**
@@ -253,15 +336,47 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		fCachedObjects.put(mirror.getObjectID(), mirror);
 	}
 
+	/**
+	 * Flushes the stored Jdwp results of the given types, for example because
+	 * they have been redefined or unloaded. Cached subtypes of these types only
+	 * flush the results derived from their supertypes, such as their visible
+	 * methods and fields, and keep their own methods, fields and line
+	 * information.
+	 */
+	public void flushStoredJdwpResults(Collection<? extends ReferenceTypeImpl> types) {
+		if (types.isEmpty()) {
+			return;
+		}
+		Set<ReferenceTypeImpl> flushed = new HashSet<>(types);
+		Set<ReferenceTypeImpl> dependents = new HashSet<>();
+		// Collect the cached subtypes, level by level.
+		Set<ReferenceTypeImpl> level = flushed;
+		while (!level.isEmpty()) {
+			Set<ReferenceTypeImpl> next = new HashSet<>();
+			for (ReferenceTypeImpl refType : fCachedReftypes.values()) {
+				if (!flushed.contains(refType) && !dependents.contains(refType)
+						&& refType.dependsOn(level)) {
+					next.add(refType);
+				}
+			}
+			dependents.addAll(next);
+			level = next;
+		}
+		for (ReferenceTypeImpl refType : flushed) {
+			refType.flushOwnStoredJdwpResults();
+		}
+		for (ReferenceTypeImpl refType : dependents) {
+			refType.flushInheritedStoredJdwpResults();
+		}
+	}
+
 	/**
 	 * Flushes all stored Jdwp results.
 	 */
 	public void flushStoredJdwpResults() {
 		// All known classes also become invalid.
-		Iterator<Object> iter = fCachedReftypes.values().iterator();
-		while (iter.hasNext()) {
-			ReferenceTypeImpl refType = (ReferenceTypeImpl) iter.next();
-			refType.flushStoredJdwpResults();
+		for (ReferenceTypeImpl refType : fCachedReftypes.values()) {
+			refType.flushOwnStoredJdwpResults();
 		}
 
 		fVersionDescription = null;
@@ -275,7 +390,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * it.
 	 */
 	public final void removeKnownRefType(String signature) {
-		List<ReferenceType> refTypeList = classesBySignature(signature);
+		List<ReferenceType> refTypeList = fLoadedTypesSeeded ? classesBySignature(signature) : requestClassesBySignature(signature);
 		if (refTypeList.isEmpty()) {
 			return;
 		}
@@ -287,6 +402,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			ReferenceTypeImpl refType = (ReferenceTypeImpl) refTypeList.get(0);
 			refType.flushStoredJdwpResults();
 			fCachedReftypes.remove(refType.getRefTypeID());
+			removeLoadedType(signature, refType.getRefTypeID());
 			return;
 		}
 
@@ -305,6 +421,90 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 				refType.flushStoredJdwpResults();
 				iter.remove();
 				fCachedReftypes.remove(refType.getRefTypeID());
+				removeLoadedType(signature, refType.getRefTypeID());
+			}
+		}
+	}
+
+	/**
+	 * Returns the index of loaded types by signature, seeding it on first use.
+	 * The index is published and class prepare and unload events are
+	 * requested before the loaded classes are retrieved, so that no class
+	 * prepared or unloaded in between is missed.
+	 */
+	private Map<String, List<JdwpReferenceTypeID>> loadedTypes() {
+		if (fLoadedTypesSeeded) {
+			return fLoadedTypes;
+		}
+		synchronized (fLoadedTypesLock) {
+			if (!fLoadedTypesSeeded) {
+				Map<String, List<JdwpReferenceTypeID>> loadedTypes = new HashMap<>();
+				fLoadedTypes = loadedTypes;
+				eventRequestManagerImpl().enableInternalClassPrepareEvent();
+				eventRequestManagerImpl().enableInternalClasUnloadEvent();
+				List<ReferenceType> classes = allClasses();
+				synchronized (loadedTypes) {
+					for (ReferenceType type : classes) {
+						addLoadedType(loadedTypes, (ReferenceTypeImpl) type);
+					}
+				}
+				fLoadedTypesSeeded = true;
+			}
+			return fLoadedTypes;
+		}
+	}
+
+	private static void addLoadedType(Map<String, List<JdwpReferenceTypeID>> loadedTypes, ReferenceTypeImpl type) {
+		List<JdwpReferenceTypeID> types = loadedTypes.computeIfAbsent(type.signature(), k -> new ArrayList<>(1));
+		if (!types.contains(type.getRefTypeID())) {
+			types.add(type.getRefTypeID());
+		}
+	}
+
+	/**
+	 * Returns the mirror of the loaded type with the given id and signature,
+	 * creating it again if it has been reclaimed from the cache.
+	 */
+	private ReferenceTypeImpl loadedType(JdwpReferenceTypeID id, String signature) {
+		ReferenceTypeImpl type = getCachedMirror(id);
+		if (type == null) {
+			if (id instanceof JdwpClassID) {
+				type = new ClassTypeImpl(this, (JdwpClassID) id);
+			} else if (id instanceof JdwpInterfaceID) {
+				type = new InterfaceTypeImpl(this, (JdwpInterfaceID) id);
+			} else {
+				type = new ArrayTypeImpl(this, (JdwpArrayID) id);
+			}
+			type.setSignature(signature);
+			addCachedMirror(type);
+		}
+		return type;
+	}
+
+	/**
+	 * Adds a type that has been prepared to the index of loaded types, if its
+	 * seeding has started.
+	 */
+	public void classPrepared(ReferenceTypeImpl type) {
+		Map<String, List<JdwpReferenceTypeID>> loadedTypes = fLoadedTypes;
+		if (loadedTypes != null) {
+			synchronized (loadedTypes) {
+				addLoadedType(loadedTypes, type);
+			}
+		}
+	}
+
+	/**
+	 * Removes a type that has been unloaded from the index of loaded types.
+	 */
+	private void removeLoadedType(String signature, JdwpReferenceTypeID type) {
+		Map<String, List<JdwpReferenceTypeID>> loadedTypes = fLoadedTypes;
+		if (loadedTypes != null) {
+			synchronized (loadedTypes) {
+				List<JdwpReferenceTypeID> types = loadedTypes.get(signature);
+				if (types != null && types.remove(type) && types.isEmpty()) {
+					loadedTypes.remove(signature);
+				}
 			}
 		}
 	}
@@ -334,6 +534,113 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		return fPacketReceiveManager;
 	}
 
+	/**
+	 * Returns a new id for a command packet sent to this VM. Ids are positive
+	 * and are handed out without locking. Once the id space has wrapped
+	 * around, ids of requests that are still waiting for their reply or whose
+	 * reply has timed out are skipped, so that a reply is never delivered to
+	 * the wrong request.
+	 *
+	 * @return Returns unique id for a command packet.
+	 */
+	public int nextPacketId() {
+		while (true) {
+			int id = fNextPacketId.getAndUpdate(i -> i == Integer.MAX_VALUE ? 1 : i + 1);
+			if (id == Integer.MAX_VALUE) {
+				fPacketIdsWrapped = true;
+			}
+			if (!fPacketIdsWrapped || !fPacketReceiveManager.isPacketIdInUse(id)) {
+				return id;
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the name, status, frame count and thread group of all threads
+	 * in a single burst of requests. The state of the threads that are
+	 * suspended is then returned by their {@link ThreadReferenceImpl} without
+	 * querying the VM, until a thread is resumed or invokes a method.
+	 * <p>
+	 * This is intended to be called when all threads have been suspended, when
+	 * clients are about to query the state of each thread. See
+	 * {@link #requestThreadSnapshot()} to take the snapshot only once they do.
+	 * </p>
+	 *
+	 * @return Returns the snapshot that has been taken, or <code>null</code>
+	 *         if the threads changed state while it was taken.
+	 */
+	public ThreadSnapshot takeThreadSnapshot() {
+		int changes;
+		synchronized (fThreadSnapshotLock) {
+			fThreadSnapshot = null;
+			fThreadSnapshotRequested = false;
+			changes = fThreadStateChanges;
+		}
+		ThreadSnapshot snapshot = ThreadReferenceImpl.snapshot(allThreads());
+		synchronized (fThreadSnapshotLock) {
+			if (changes != fThreadStateChanges) {
+				return null;
+			}
+			fThreadSnapshot = snapshot;
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Requests a snapshot of the state of the threads to be taken by the next
+	 * query of the name, status or frame count of a thread, unless the threads
+	 * change state before. No request is sent to the VM by this method.
+	 *
+	 * @see #takeThreadSnapshot()
+	 */
+	public void requestThreadSnapshot() {
+		synchronized (fThreadSnapshotLock) {
+			fThreadSnapshot = null;
+			fThreadSnapshotRequested = true;
+		}
+	}
+
+	/**
+	 * @return Returns the current snapshot of the state of the threads, or
+	 *         <code>null</code> if none has been taken since the threads last
+	 *         changed state. A requested snapshot is taken by this method.
+	 */
+	public ThreadSnapshot threadSnapshot() {
+		ThreadSnapshot snapshot = fThreadSnapshot;
+		if (snapshot == null && fThreadSnapshotRequested) {
+			synchronized (fThreadSnapshotTakeLock) {
+				snapshot = fThreadSnapshot;
+				if (snapshot == null && fThreadSnapshotRequested) {
+					snapshot = takeThreadSnapshot();
+				}
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * @return Returns the cache of the values of string objects.
+	 */
+	StringValueCache stringValueCache() {
+		return fStringValueCache;
+	}
+
+	/**
+	 * Discards the current thread snapshot if the given command may change the
+	 * state of the threads, and the cached string values if it resumes the
+	 * target. Called before the command is sent.
+	 */
+	void commandSending(int command) {
+		fStringValueCache.commandSending(command);
+		if (ThreadSnapshot.changesThreadState(command)) {
+			synchronized (fThreadSnapshotLock) {
+				fThreadStateChanges++;
+				fThreadSnapshot = null;
+				fThreadSnapshotRequested = false;
+			}
+		}
+	}
+
 	/*
 	 * @return Returns Manager for sending packets to the Virtual Machine.
 	 */
@@ -377,6 +684,22 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 					: JdwpCommandPacket.VM_ALL_CLASSES;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand);
 			defaultReplyErrorHandler(replyPacket.errorCode());
+			if (fVerboseWriter == null) {
+				JdwpDataReader replyData = replyPacket.dataReader();
+				int nrOfElements = replyData.readInt();
+				List<ReferenceType> elements = new ArrayList<>(nrOfElements);
+				for (int i = 0; i < nrOfElements; i++) {
+					ReferenceTypeImpl elt = ReferenceTypeImpl
+							.readWithTypeTagAndSignature(this,
+									withGenericSignature, replyData);
+					if (elt == null) {
+						continue;
+					}
+					replyData.readInt(); // status
+					elements.add(elt);
+				}
+				return elements;
+			}
 			DataInputStream replyData = replyPacket.dataInStream();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			List<ReferenceType> elements = new ArrayList<>(nrOfElements);
@@ -401,16 +724,27 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	}
 
 	/**
-	 * @return Returns an iterator over all loaded classes.
+	 * @return Returns an iterator over all loaded classes, as known to the
+	 *         index of loaded types. Array types created after the index has
+	 *         been seeded are not included.
 	 */
 	protected final Iterator<ReferenceType> allRefTypes() {
-		return allClasses().iterator();
+		Map<String, List<JdwpReferenceTypeID>> loadedTypes = loadedTypes();
+		List<ReferenceType> result = new ArrayList<>(loadedTypes.size());
+		synchronized (loadedTypes) {
+			for (Map.Entry<String, List<JdwpReferenceTypeID>> entry : loadedTypes.entrySet()) {
+				for (JdwpReferenceTypeID id : entry.getValue()) {
+					result.add(loadedType(id, entry.getKey()));
+				}
+			}
+		}
+		return result.iterator();
 	}
 
 	/**
 	 * @return Returns an iterator over all cached classes.
 	 */
-	protected final Iterator<Object> allCachedRefTypes() {
+	protected final Iterator<ReferenceTypeImpl> allCachedRefTypes() {
 		return fCachedReftypes.values().iterator();
 	}
 
@@ -648,7 +982,37 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * @return Returns the loaded reference types that match a given signature.
 	 */
 	public List<ReferenceType> classesBySignature(String signature) {
-		// Note that this information should not be cached.
+		// Types that have been prepared are found in the index. Others are
+		// looked up in the VM: array types are not reported by class prepare
+		// events, and the event of a class prepared just now may still be on
+		// its way.
+		Map<String, List<JdwpReferenceTypeID>> loadedTypes = loadedTypes();
+		synchronized (loadedTypes) {
+			List<JdwpReferenceTypeID> types = loadedTypes.get(signature);
+			if (types != null) {
+				List<ReferenceType> result = new ArrayList<>(types.size());
+				for (JdwpReferenceTypeID id : types) {
+					result.add(loadedType(id, signature));
+				}
+				return result;
+			}
+		}
+		List<ReferenceType> elements = requestClassesBySignature(signature);
+		if (elements != null && !elements.isEmpty()) {
+			synchronized (loadedTypes) {
+				for (ReferenceType type : elements) {
+					addLoadedType(loadedTypes, (ReferenceTypeImpl) type);
+				}
+			}
+		}
+		return elements;
+	}
+
+	/**
+	 * @return Returns the loaded reference types that match a given signature,
+	 *         as reported by the VM.
+	 */
+	private List<ReferenceType> requestClassesBySignature(String signature) {
 		initJdwpRequest();
 		try {
 			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
@@ -753,15 +1117,18 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * @see com.sun.jdi.VirtualMachine#mirrorOf(byte)
 	 */
 	@Override
-	public ByteValue mirrorOf(byte value) {
-		return new ByteValueImpl(virtualMachineImpl(), Byte.valueOf(value));
+	public ByteValueImpl mirrorOf(byte value) {
+		return fByteValues[value - INTERNED_MIN];
 	}
 
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.VirtualMachine#mirrorOf(char)
 	 */
 	@Override
-	public CharValue mirrorOf(char value) {
+	public CharValueImpl mirrorOf(char value) {
+		if (value <= INTERNED_MAX) {
+			return fCharValues[value];
+		}
 		return new CharValueImpl(virtualMachineImpl(), Character.valueOf(value));
 	}
 
@@ -769,7 +1136,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * @see com.sun.jdi.VirtualMachine#mirrorOf(double)
 	 */
 	@Override
-	public DoubleValue mirrorOf(double value) {
+	public DoubleValueImpl mirrorOf(double value) {
 		return new DoubleValueImpl(virtualMachineImpl(), Double.valueOf(value));
 	}
 
@@ -777,7 +1144,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * @see com.sun.jdi.VirtualMachine#mirrorOf(float)
 	 */
 	@Override
-	public FloatValue mirrorOf(float value) {
+	public FloatValueImpl mirrorOf(float value) {
 		return new FloatValueImpl(virtualMachineImpl(), Float.valueOf(value));
 	}
 
@@ -785,7 +1152,10 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * @see com.sun.jdi.VirtualMachine#mirrorOf(int)
 	 */
 	@Override
-	public IntegerValue mirrorOf(int value) {
+	public IntegerValueImpl mirrorOf(int value) {
+		if (value >= INTERNED_MIN && value <= INTERNED_MAX) {
+			return fIntegerValues[value - INTERNED_MIN];
+		}
 		return new IntegerValueImpl(virtualMachineImpl(), Integer.valueOf(value));
 	}
 
@@ -793,7 +1163,10 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * @see com.sun.jdi.VirtualMachine#mirrorOf(long)
 	 */
 	@Override
-	public LongValue mirrorOf(long value) {
+	public LongValueImpl mirrorOf(long value) {
+		if (value >= INTERNED_MIN && value <= INTERNED_MAX) {
+			return fLongValues[(int) value - INTERNED_MIN];
+		}
 		return new LongValueImpl(virtualMachineImpl(), Long.valueOf(value));
 	}
 
@@ -801,7 +1174,10 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * @see com.sun.jdi.VirtualMachine#mirrorOf(short)
 	 */
 	@Override
-	public ShortValue mirrorOf(short value) {
+	public ShortValueImpl mirrorOf(short value) {
+		if (value >= INTERNED_MIN && value <= INTERNED_MAX) {
+			return fShortValues[value - INTERNED_MIN];
+		}
 		return new ShortValueImpl(virtualMachineImpl(), Short.valueOf(value));
 	}
 
@@ -809,9 +1185,8 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * @see com.sun.jdi.VirtualMachine#mirrorOf(boolean)
 	 */
 	@Override
-	public BooleanValue mirrorOf(boolean value) {
-		return new BooleanValueImpl(virtualMachineImpl(),
-				Boolean.valueOf(value));
+	public BooleanValueImpl mirrorOf(boolean value) {
+		return value ? fTrueValue : fFalseValue;
 	}
 
 	/* (non-Javadoc)
@@ -1155,6 +1530,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			byte resultFlag = readByte("result", resultHCRMap(), replyData); //$NON-NLS-1$
 			switch (resultFlag) {
 			case HCR_RELOAD_SUCCESS:
+				flushChangedTypes(signatures);
 				return RELOAD_SUCCESS;
 			case HCR_RELOAD_FAILURE:
 				return RELOAD_FAILURE;
@@ -1172,6 +1548,20 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		}
 	}
 
+	/**
+	 * Flushes the stored results of the cached types with the given signatures,
+	 * that have been reloaded.
+	 */
+	private void flushChangedTypes(String[] signatures) {
+		List<ReferenceTypeImpl> types = new ArrayList<>();
+		for (String signature : signatures) {
+			for (ReferenceType refType : classesBySignature(signature)) {
+				types.add((ReferenceTypeImpl) refType);
+			}
+		}
+		flushStoredJdwpResults(types);
+	}
+
 	/**
 	 * @return Returns description of Mirror object.
 	 */
@@ -1277,14 +1667,17 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 				for (byte b : bytes) {
 					writeByte(b, "classByte", outData); //$NON-NLS-1$
 				}
-				fCachedReftypes.remove(type.getRefTypeID()); // flush local
-																// cache of
-																// redefined
-																// types
 			}
 
 			JdwpReplyPacket reply = requestVM(
 					JdwpCommandPacket.VM_REDEFINE_CLASSES, outBytes);
+			// flush the stored results of the redefined types, and of their
+			// subtypes that were derived from them
+			List<ReferenceTypeImpl> redefined = new ArrayList<>(types.size());
+			for (ReferenceType type : types) {
+				redefined.add((ReferenceTypeImpl) type);
+			}
+			flushStoredJdwpResults(redefined);
 			switch (reply.errorCode()) {
 			case JdwpReplyPacket.UNSUPPORTED_VERSION:
 				throw new UnsupportedClassVersionError();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,8 @@ import org.eclipse.jdi.internal.connect.SocketAttachingConnectorImpl;
 import org.eclipse.jdi.internal.connect.SocketLaunchingConnectorImpl;
 import org.eclipse.jdi.internal.connect.SocketListeningConnectorImpl;
 import org.eclipse.jdi.internal.connect.SocketRawLaunchingConnectorImpl;
+import org.eclipse.jdi.internal.connect.UnixDomainListeningConnectorImpl;
+import org.eclipse.jdi.internal.connect.UnixDomainTransportService;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
@@ -214,8 +216,11 @@ public class VirtualMachineManagerImpl implements VirtualMachineManager {
 	 */
 	@Override
 	public List<ListeningConnector> listeningConnectors() {
-		ArrayList<ListeningConnector> list = new ArrayList<>(1);
+		ArrayList<ListeningConnector> list = new ArrayList<>(2);
 		list.add(new SocketListeningConnectorImpl(this));
+		if (UnixDomainTransportService.isSupported()) {
+			list.add(new UnixDomainListeningConnectorImpl(this));
+		}
 		return list;
 	}
 
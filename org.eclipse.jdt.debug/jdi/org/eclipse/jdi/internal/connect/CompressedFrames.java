@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Framing used to exchange compressed JDWP packets between the debugger and a
+ * {@link CompressionRelay} running next to the debuggee.
+ * <p>
+ * Each frame carries one or more consecutive JDWP packets in their wire
+ * format and has the following layout:
+ * </p>
+ *
+ * <pre>
+ * byte  flags          FLAG_DEFLATED if the data is compressed
+ * int   length         length of the JDWP packets carried by the frame
+ * int   dataLength     length of the data that follows
+ * byte[dataLength]     the packets, deflated if FLAG_DEFLATED is set
+ * </pre>
+ *
+ * Small frames are sent uncompressed, since compressing them does not pay off.
+ * <p>
+ * This class must not depend on Eclipse, since the relay runs on its own in
+ * the debuggee's environment.
+ * </p>
+ */
+public final class CompressedFrames {
+
+	/**
+	 * Handshake bytes used instead of the JDWP handshake on compressed
+	 * connections, so that a compressed connection to a plain JDWP agent (or
+	 * the other way round) fails at the handshake.
+	 */
+	public static final byte[] HANDSHAKE_BYTES = "JDWP-Deflate-Handshake".getBytes(); //$NON-NLS-1$
+
+	/** Flag set on frames whose data is compressed. */
+	public static final byte FLAG_DEFLATED = 0x01;
+
+	/** Frames carrying fewer bytes of packets are not compressed. */
+	public static final int MIN_DEFLATE_LENGTH = 256;
+
+	private CompressedFrames() {
+	}
+
+	/**
+	 * Writes JDWP packets as frames. Not thread safe.
+	 */
+	public static final class Writer {
+		private final DataOutputStream fOutput;
+		private final Deflater fDeflater = new Deflater(Deflater.BEST_SPEED);
+		private byte[] fBuffer = new byte[8192];
+
+		public Writer(OutputStream output) {
+			fOutput = new DataOutputStream(output);
+		}
+
+		/**
+		 * Writes the given packets as one frame and flushes the stream.
+		 *
+		 * @param packets
+		 *            consecutive JDWP packets in their wire format
+		 * @param offset
+		 *            index of the first byte to write
+		 * @param length
+		 *            number of bytes to write
+		 */
+		public void writeFrame(byte[] packets, int offset, int length) throws IOException {
+			if (length < MIN_DEFLATE_LENGTH) {
+				writeFrame((byte) 0, length, packets, offset, length);
+				return;
+			}
+			fDeflater.reset();
+			fDeflater.setInput(packets, offset, length);
+			fDeflater.finish();
+			int dataLength = 0;
+			while (!fDeflater.finished() && dataLength < length) {
+				if (dataLength == fBuffer.length) {
+					byte[] buffer = new byte[(int) Math.min(length, fBuffer.length * 2L)];
+					System.arraycopy(fBuffer, 0, buffer, 0, dataLength);
+					fBuffer = buffer;
+				}
+				dataLength += fDeflater.deflate(fBuffer, dataLength, fBuffer.length - dataLength);
+			}
+			if (!fDeflater.finished() || dataLength >= length) {
+				// incompressible data, e.g. already compressed class bytes
+				writeFrame((byte) 0, length, packets, offset, length);
+			} else {
+				writeFrame(FLAG_DEFLATED, length, fBuffer, 0, dataLength);
+			}
+		}
+
+		private void writeFrame(byte flags, int length, byte[] data, int offset, int dataLength) throws IOException {
+			fOutput.writeByte(flags);
+			fOutput.writeInt(length);
+			fOutput.writeInt(dataLength);
+			fOutput.write(data, offset, dataLength);
+			fOutput.flush();
+		}
+
+		/**
+		 * Releases the native resources of the compressor.
+		 */
+		public void dispose() {
+			fDeflater.end();
+		}
+	}
+
+	/**
+	 * Reads JDWP packets from frames. Not thread safe.
+	 */
+	public static final class Reader {
+		private final DataInputStream fInput;
+		private final Inflater fInflater = new Inflater();
+		private byte[] fData = new byte[8192];
+		/** Packets of the last frame that have not been returned yet. */
+		private byte[] fPackets = new byte[8192];
+		private int fPosition = 0;
+		private int fLimit = 0;
+
+		public Reader(InputStream input) {
+			fInput = new DataInputStream(input);
+		}
+
+		/**
+		 * @return Returns whether packets of the last frame read are still to
+		 *         be returned by {@link #readPacket()}.
+		 */
+		public boolean hasBufferedPackets() {
+			return fPosition < fLimit;
+		}
+
+		/**
+		 * Returns the next JDWP packet, reading a frame if required.
+		 *
+		 * @return the packet in its wire format
+		 * @throws EOFException
+		 *             if the end of the stream is reached
+		 */
+		public byte[] readPacket() throws IOException {
+			if (fPosition == fLimit) {
+				readFrame();
+			}
+			if (fLimit - fPosition < 4) {
+				throw new IOException("Truncated JDWP packet in compressed frame"); //$NON-NLS-1$
+			}
+			int packetLength = ((fPackets[fPosition] & 0xFF) << 24) | ((fPackets[fPosition + 1] & 0xFF) << 16)
+					| ((fPackets[fPosition + 2] & 0xFF) << 8) | (fPackets[fPosition + 3] & 0xFF);
+			if (packetLength < 11 || packetLength > fLimit - fPosition) {
+				throw new IOException("Invalid JDWP packet length in compressed frame: " + packetLength); //$NON-NLS-1$
+			}
+			byte[] packet = new byte[packetLength];
+			System.arraycopy(fPackets, fPosition, packet, 0, packetLength);
+			fPosition += packetLength;
+			return packet;
+		}
+
+		private void readFrame() throws IOException {
+			byte flags = fInput.readByte();
+			int length = fInput.readInt();
+			int dataLength = fInput.readInt();
+			// a frame carries at least one packet, and compressed data is
+			// shorter than the packets it holds, see Writer#writeFrame()
+			if (length < 11 || dataLength < 0 || dataLength > length) {
+				throw new IOException("Invalid compressed frame length: " + length); //$NON-NLS-1$
+			}
+			if (fPackets.length < length) {
+				fPackets = new byte[Math.max(length, (int) Math.min(Integer.MAX_VALUE - 8, fPackets.length * 2L))];
+			}
+			if ((flags & FLAG_DEFLATED) == 0) {
+				if (dataLength != length) {
+					throw new IOException("Invalid uncompressed frame length: " + dataLength); //$NON-NLS-1$
+				}
+				fInput.readFully(fPackets, 0, length);
+			} else {
+				if (fData.length < dataLength) {
+					fData = new byte[Math.max(dataLength, (int) Math.min(Integer.MAX_VALUE - 8, fData.length * 2L))];
+				}
+				fInput.readFully(fData, 0, dataLength);
+				fInflater.reset();
+				fInflater.setInput(fData, 0, dataLength);
+				try {
+					int inflated = 0;
+					while (inflated < length && !fInflater.finished()) {
+						int count = fInflater.inflate(fPackets, inflated, length - inflated);
+						if (count == 0 && (fInflater.needsInput() || fInflater.needsDictionary())) {
+							break;
+						}
+						inflated += count;
+					}
+					if (inflated != length) {
+						throw new IOException("Truncated compressed frame"); //$NON-NLS-1$
+					}
+				} catch (DataFormatException e) {
+					throw new IOException(e.getMessage(), e);
+				}
+			}
+			fPosition = 0;
+			fLimit = length;
+		}
+
+		/**
+		 * Releases the native resources of the decompressor.
+		 */
+		public void dispose() {
+			fInflater.end();
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+
+import com.sun.jdi.connect.spi.ClosedConnectionException;
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * Connection to a {@link CompressionRelay} that exchanges JDWP packets in
+ * {@link CompressedFrames}. A batch of packets written at once is compressed
+ * as a single frame.
+ */
+public class CompressedSocketConnection extends Connection implements PacketBatchWriter {
+
+	private Socket fSocket;
+
+	private final CompressedFrames.Reader fReader;
+
+	private final CompressedFrames.Writer fWriter;
+
+	CompressedSocketConnection(Socket socket, InputStream in, OutputStream out) {
+		fSocket = socket;
+		fReader = new CompressedFrames.Reader(new BufferedInputStream(in));
+		fWriter = new CompressedFrames.Writer(new BufferedOutputStream(out));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (this) {
+			if (fSocket == null)
+				return;
+
+			fSocket.close();
+			fSocket = null;
+		}
+		// closing the socket ends reads and writes in progress, which then
+		// release the reader and writer
+		synchronized (fReader) {
+			fReader.dispose();
+		}
+		synchronized (fWriter) {
+			fWriter.dispose();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#isOpen()
+	 */
+	@Override
+	public synchronized boolean isOpen() {
+		return fSocket != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#readPacket()
+	 */
+	@Override
+	public byte[] readPacket() throws IOException {
+		if (!isOpen()) {
+			throw new ClosedConnectionException();
+		}
+		synchronized (fReader) {
+			if (!isOpen()) {
+				// the reader may have been disposed
+				throw new ClosedConnectionException();
+			}
+			try {
+				return fReader.readPacket();
+			} catch (EOFException e) {
+				throw new ClosedConnectionException();
+			} catch (IOException e) {
+				if (!isOpen()) {
+					throw new ClosedConnectionException();
+				}
+				throw e;
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#writePacket(byte[])
+	 */
+	@Override
+	public void writePacket(byte[] packet) throws IOException {
+		if (packet == null) {
+			throw new IllegalArgumentException(
+					"Invalid JDWP Packet, packet cannot be null"); //$NON-NLS-1$
+		}
+		int packetSize = 0;
+		if (packet.length >= 4) {
+			packetSize = (((packet[0] & 0xFF) << 24) + ((packet[1] & 0xFF) << 16)
+					+ ((packet[2] & 0xFF) << 8) + ((packet[3] & 0xFF) << 0));
+		}
+		if (packetSize < 11) {
+			throw new IllegalArgumentException(
+					"Invalid JDWP Packet, must be at least 11 bytes. PacketSize:" + packetSize); //$NON-NLS-1$
+		}
+		if (packetSize > packet.length) {
+			throw new IllegalArgumentException(
+					"Invalid JDWP packet: Specified length is greater than actual length"); //$NON-NLS-1$
+		}
+		writePackets(packet, packetSize);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.jdi.internal.connect.PacketBatchWriter#writePackets(byte[], int)
+	 */
+	@Override
+	public void writePackets(byte[] packets, int length) throws IOException {
+		if (!isOpen()) {
+			throw new ClosedConnectionException();
+		}
+		synchronized (fWriter) {
+			if (!isOpen()) {
+				// the writer may have been disposed
+				throw new ClosedConnectionException();
+			}
+			fWriter.writeFrame(packets, 0, length);
+		}
+	}
+}
@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+
+/**
+ * Relay that runs on the debuggee's host and translates between the
+ * {@link CompressedFrames} used by a debugger attaching with compression and
+ * the plain JDWP spoken by the debuggee's JDWP agent. Start the debuggee with
+ * a socket JDWP agent in server mode, then start the relay with:
+ *
+ * <pre>
+ * java -cp jdimodel.jar org.eclipse.jdi.internal.connect.CompressionRelay &lt;relay port&gt; [&lt;agent host&gt;:]&lt;agent port&gt;
+ * </pre>
+ *
+ * and attach the debugger to the relay port with compression enabled. The
+ * relay prints the port it listens on, which is useful when started with port
+ * 0, and serves one debugger session at a time.
+ * <p>
+ * The relay only depends on the JDK, so that it can be copied to and run on
+ * the debuggee's host without Eclipse.
+ * </p>
+ */
+public class CompressionRelay {
+
+	/** JDWP handshake expected by the debuggee's agent. */
+	private static final byte[] JDWP_HANDSHAKE_BYTES = "JDWP-Handshake".getBytes(); //$NON-NLS-1$
+
+	/** Packets received from the agent are batched into frames up to this size. */
+	private static final int MAX_BATCH_LENGTH = 64 * 1024;
+
+	private final ServerSocket fServerSocket;
+	private final String fAgentHost;
+	private final int fAgentPort;
+
+	/**
+	 * Creates a relay listening on the given port.
+	 *
+	 * @param port
+	 *            port for the debugger to connect to, or 0 for any free port
+	 * @param agentHost
+	 *            host of the debuggee's JDWP agent
+	 * @param agentPort
+	 *            port of the debuggee's JDWP agent
+	 */
+	public CompressionRelay(int port, String agentHost, int agentPort) throws IOException {
+		fServerSocket = new ServerSocket(port);
+		fAgentHost = agentHost;
+		fAgentPort = agentPort;
+	}
+
+	/**
+	 * @return Returns the port the relay listens on.
+	 */
+	public int getLocalPort() {
+		return fServerSocket.getLocalPort();
+	}
+
+	/**
+	 * Serves debugger sessions until the relay is closed.
+	 */
+	public void run() throws IOException {
+		while (!fServerSocket.isClosed()) {
+			Socket debugger;
+			try {
+				debugger = fServerSocket.accept();
+			} catch (IOException e) {
+				if (fServerSocket.isClosed()) {
+					return;
+				}
+				throw e;
+			}
+			try {
+				relay(debugger);
+			} catch (IOException e) {
+				System.err.println("Relay session ended: " + e.getMessage()); //$NON-NLS-1$
+			} finally {
+				debugger.close();
+			}
+		}
+	}
+
+	/**
+	 * Stops listening for debugger sessions.
+	 */
+	public void close() throws IOException {
+		fServerSocket.close();
+	}
+
+	/**
+	 * Relays packets between the given debugger connection and the agent
+	 * until either side closes its connection.
+	 */
+	private void relay(Socket debugger) throws IOException {
+		debugger.setTcpNoDelay(true);
+		InputStream debuggerIn = new BufferedInputStream(debugger.getInputStream());
+		OutputStream debuggerOut = new BufferedOutputStream(debugger.getOutputStream());
+		expectHandshake(debuggerIn, CompressedFrames.HANDSHAKE_BYTES);
+
+		try (Socket agent = new Socket(fAgentHost, fAgentPort)) {
+			agent.setTcpNoDelay(true);
+			InputStream agentIn = new BufferedInputStream(agent.getInputStream());
+			OutputStream agentOut = new BufferedOutputStream(agent.getOutputStream());
+			agentOut.write(JDWP_HANDSHAKE_BYTES);
+			agentOut.flush();
+			expectHandshake(agentIn, JDWP_HANDSHAKE_BYTES);
+			debuggerOut.write(CompressedFrames.HANDSHAKE_BYTES);
+			debuggerOut.flush();
+
+			Thread toAgent = new Thread(() -> {
+				try {
+					relayToAgent(debuggerIn, agentOut);
+				} catch (IOException e) {
+					// connection closed
+				} finally {
+					closeQuietly(agent);
+					closeQuietly(debugger);
+				}
+			}, "JDWP compression relay to agent"); //$NON-NLS-1$
+			toAgent.setDaemon(true);
+			toAgent.start();
+			try {
+				relayToDebugger(agentIn, debuggerOut);
+			} catch (IOException e) {
+				// connection closed
+			} finally {
+				closeQuietly(agent);
+				closeQuietly(debugger);
+			}
+			try {
+				toAgent.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Decompresses the frames sent by the debugger and forwards the packets
+	 * to the agent.
+	 */
+	private static void relayToAgent(InputStream debuggerIn, OutputStream agentOut) throws IOException {
+		CompressedFrames.Reader reader = new CompressedFrames.Reader(debuggerIn);
+		try {
+			while (true) {
+				agentOut.write(reader.readPacket());
+				if (!reader.hasBufferedPackets()) {
+					agentOut.flush();
+				}
+			}
+		} finally {
+			reader.dispose();
+		}
+	}
+
+	/**
+	 * Forwards the packets sent by the agent to the debugger, batching the
+	 * packets that are already available into one compressed frame.
+	 */
+	private static void relayToDebugger(InputStream agentIn, OutputStream debuggerOut) throws IOException {
+		DataInputStream in = new DataInputStream(agentIn);
+		CompressedFrames.Writer writer = new CompressedFrames.Writer(debuggerOut);
+		byte[] batch = new byte[MAX_BATCH_LENGTH];
+		try {
+			while (true) {
+				int length = 0;
+				do {
+					int packetLength = in.readInt();
+					if (packetLength < 11) {
+						throw new IOException("JDWP Packet under 11 bytes"); //$NON-NLS-1$
+					}
+					if (length + packetLength > batch.length) {
+						batch = Arrays.copyOf(batch, Math.max(length + packetLength, batch.length * 2));
+					}
+					batch[length] = (byte) (packetLength >>> 24);
+					batch[length + 1] = (byte) (packetLength >>> 16);
+					batch[length + 2] = (byte) (packetLength >>> 8);
+					batch[length + 3] = (byte) packetLength;
+					in.readFully(batch, length + 4, packetLength - 4);
+					length += packetLength;
+				} while (length < MAX_BATCH_LENGTH && in.available() >= 4);
+				writer.writeFrame(batch, 0, length);
+			}
+		} finally {
+			writer.dispose();
+		}
+	}
+
+	private static void expectHandshake(InputStream in, byte[] handshake) throws IOException {
+		byte[] received = new byte[handshake.length];
+		new DataInputStream(in).readFully(received);
+		if (!Arrays.equals(received, handshake)) {
+			throw new IOException("Received invalid handshake"); //$NON-NLS-1$
+		}
+	}
+
+	private static void closeQuietly(Socket socket) {
+		try {
+			socket.close();
+		} catch (IOException e) {
+		}
+	}
+
+	/**
+	 * Starts a relay.
+	 *
+	 * @param args
+	 *            the relay port and the address of the JDWP agent
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("Usage: CompressionRelay <relay port> [<agent host>:]<agent port>"); //$NON-NLS-1$
+			System.exit(1);
+		}
+		int port = Integer.parseInt(args[0]);
+		String agentHost = InetAddress.getLoopbackAddress().getHostAddress();
+		String agentAddress = args[1];
+		int separator = agentAddress.lastIndexOf(':');
+		if (separator >= 0) {
+			agentHost = agentAddress.substring(0, separator);
+			agentAddress = agentAddress.substring(separator + 1);
+		}
+		CompressionRelay relay = new CompressionRelay(port, agentHost, Integer.parseInt(agentAddress));
+		System.out.println("Listening for transport dt_socket_deflate at address: " + relay.getLocalPort()); //$NON-NLS-1$
+		System.out.flush();
+		relay.run();
+	}
+}
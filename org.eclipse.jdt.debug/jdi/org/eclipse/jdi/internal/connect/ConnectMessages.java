@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,10 @@ public class ConnectMessages extends NLS {
 	public static String SocketAttachingConnectorImpl_Connection_argument_is_not_of_the_right_type_6;
 	public static String SocketAttachingConnectorImpl_Necessary_connection_argument_is_null_7;
 	public static String SocketAttachingConnectorImpl_Connection_argument_is_not_a_number_8;
+	public static String SocketAttachingConnectorImpl_Use_NIO_channels;
+	public static String SocketAttachingConnectorImpl_Use_NIO_channels_description;
+	public static String SocketAttachingConnectorImpl_Use_compression;
+	public static String SocketAttachingConnectorImpl_Use_compression_description;
 	public static String SocketLaunchingConnectorImpl_Home_directory_of_the_SDK_or_runtime_environment_used_to_launch_the_application_1;
 	public static String SocketLaunchingConnectorImpl_Home_2;
 	public static String SocketLaunchingConnectorImpl_Launched_VM_options_3;
@@ -62,8 +66,14 @@ public class ConnectMessages extends NLS {
 	public static String SocketListeningConnectorImpl_Limit;
 
 	public static String SocketListeningConnectorImpl_Limit_incoming_connections;
+	public static String SocketListeningConnectorImpl_Use_NIO_channels;
+	public static String SocketListeningConnectorImpl_Use_NIO_channels_description;
 
 	public static String SocketListeningConnectorImpl_ListeningConnector_Socket_Port;
+	public static String UnixDomainListeningConnectorImpl_Path_of_the_socket_at_which_to_listen_for_VM_connections;
+	public static String UnixDomainListeningConnectorImpl_Path;
+	public static String UnixDomainListeningConnectorImpl_Accepts_Unix_domain_socket_connections_initiated_by_other_VMs;
+	public static String UnixDomainTransportService_0;
 	public static String SocketRawLaunchingConnectorImpl_Raw_command_to_start_the_debugged_application_VM_1;
 	public static String SocketRawLaunchingConnectorImpl_Command_2;
 	public static String SocketRawLaunchingConnectorImpl_Address_from_which_to_listen_for_a_connection_after_the_raw_command_is_run_3;
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.IOException;
+
+/**
+ * Implemented by connections that can write several consecutive JDWP packets
+ * in a single operation. The {@link PacketSendManager} uses it to send all
+ * queued packets at once instead of one write per packet.
+ */
+interface PacketBatchWriter {
+
+	/**
+	 * Writes the given packets, which are laid out one after the other in
+	 * their wire format, and flushes them to the Virtual Machine.
+	 *
+	 * @param packets
+	 *            the packets to write
+	 * @param length
+	 *            the number of bytes to write
+	 */
+	void writePackets(byte[] packets, int length) throws IOException;
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,14 @@ package org.eclipse.jdi.internal.connect;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdi.TimeoutException;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
@@ -46,14 +52,30 @@ public class PacketReceiveManager extends PacketManager {
 	/** List of Command packets received from Virtual Machine. */
 	private LinkedList<JdwpCommandPacket> fCommandPackets;
 
-	/** List of Reply packets received from Virtual Machine. */
-	private LinkedList<JdwpReplyPacket> fReplyPackets;
+	/**
+	 * Map of reply slots keyed by packet id. A slot is created by whichever
+	 * comes first: the caller waiting for the reply or the reply itself, and
+	 * is removed by the caller once the reply has been consumed or timed out.
+	 */
+	private Map<Integer, CompletableFuture<JdwpReplyPacket>> fReplySlots;
+
+	/** Maximum number of timed out packets that are remembered. */
+	private static final int MAX_TIMED_OUT_PACKETS = 1024;
+
+	/** Time in ms after which a reply to a timed out packet is not expected. */
+	private static final long TIMED_OUT_PACKET_MAX_AGE = 10 * 60 * 1000;
 
 	/**
-	 * List of Packets that have timed out already. Maintained so that responses
+	 * Ids of packets that have timed out already. Maintained so that responses
 	 * can be discarded if/when they are received.
 	 */
-	private ArrayList<Integer> fTimedOutPackets;
+	private TimedOutPacketIds fTimedOutPackets;
+
+	/** Number of requests whose reply has timed out, guarded by fTimedOutPackets. */
+	private long fTimedOutReplyCount = 0;
+
+	/** Number of replies received after their request timed out, guarded by fTimedOutPackets. */
+	private long fDiscardedReplyCount = 0;
 
 	private VirtualMachineImpl fVM;
 
@@ -64,8 +86,8 @@ public class PacketReceiveManager extends PacketManager {
 		super(connection);
 		fVM = vmImpl;
 		fCommandPackets = new LinkedList<>();
-		fReplyPackets = new LinkedList<>();
-		fTimedOutPackets = new ArrayList<>();
+		fReplySlots = new HashMap<>();
+		fTimedOutPackets = new TimedOutPacketIds(MAX_TIMED_OUT_PACKETS, TIMED_OUT_PACKET_MAX_AGE);
 	}
 
 	@Override
@@ -74,8 +96,13 @@ public class PacketReceiveManager extends PacketManager {
 		synchronized (fCommandPackets) {
 			fCommandPackets.notifyAll();
 		}
-		synchronized (fReplyPackets) {
-			fReplyPackets.notifyAll();
+		// completing a slot releases it from the table, so complete a copy
+		List<CompletableFuture<JdwpReplyPacket>> slots;
+		synchronized (fReplySlots) {
+			slots = new ArrayList<>(fReplySlots.values());
+		}
+		for (CompletableFuture<JdwpReplyPacket> slot : slots) {
+			slot.complete(null);
 		}
 	}
 
@@ -151,48 +178,98 @@ public class PacketReceiveManager extends PacketManager {
 	 * @return Returns a specified Reply Packet from the Virtual Machine.
 	 */
 	public JdwpReplyPacket getReply(int id, long timeToWait) {
-		JdwpReplyPacket packet = null;
+		CompletableFuture<JdwpReplyPacket> slot = getReplySlot(id);
+		final long timeBeforeWait = System.currentTimeMillis();
 		long remainingTime = timeToWait;
-		synchronized (fReplyPackets) {
-			final long timeBeforeWait = System.currentTimeMillis();
-			// Wait until reply is available.
-			while (!VMIsDisconnected() && remainingTime > 0) {
-				packet = removeReplyPacket(id);
-				if (packet != null) {
-					break;
-				}
-				try {
-					waitForPacketAvailable(remainingTime, fReplyPackets);
-				}
-				// if the remote VM is interrupted DO NOT drop the connection -
-				// see bug 171075
-				// just stop waiting for the reply and treat it as a timeout
-				catch (InterruptedException e) {
-					if (JDIDebugOptions.DEBUG) {
-						JDIDebugOptions.trace(null, "Interrupt observed while waiting for packet: " + id, e); //$NON-NLS-1$
-					}
-					// Do not stop waiting on interrupt, this causes
-					// sporadic TimeoutException's without timeout
-					// break;
+		// Wait until reply is available.
+		while (!VMIsDisconnected() && remainingTime > 0) {
+			try {
+				slot.get(remainingTime, TimeUnit.MILLISECONDS);
+				break;
+			} catch (java.util.concurrent.TimeoutException e) {
+				break;
+			} catch (ExecutionException e) {
+				break;
+			}
+			// if the remote VM is interrupted DO NOT drop the connection -
+			// see bug 171075
+			// just stop waiting for the reply and treat it as a timeout
+			catch (InterruptedException e) {
+				if (JDIDebugOptions.DEBUG) {
+					JDIDebugOptions.trace(null, "Interrupt observed while waiting for packet: " + id, e); //$NON-NLS-1$
 				}
-				long waitedTime = System.currentTimeMillis() - timeBeforeWait;
-				remainingTime = timeToWait - waitedTime;
+				// Do not stop waiting on interrupt, this causes
+				// sporadic TimeoutException's without timeout
+				// break;
 			}
+			long waitedTime = System.currentTimeMillis() - timeBeforeWait;
+			remainingTime = timeToWait - waitedTime;
 		}
-		if (packet == null) {
-			synchronized (fReplyPackets) {
-				packet = removeReplyPacket(id);
+		return releaseReplySlot(id, slot);
+	}
+
+	/**
+	 * @return Returns a specified Reply Packet from the Virtual Machine.
+	 */
+	public JdwpReplyPacket getReply(JdwpCommandPacket commandPacket) {
+		return getReply(commandPacket.getId(), fVM.getRequestTimeout());
+	}
+
+	/**
+	 * Returns a future that is completed with the reply to the given command
+	 * packet without blocking the calling thread. The future completes
+	 * exceptionally with a {@link TimeoutException} if no reply arrives within
+	 * the request timeout of the VM, or with a
+	 * {@link VMDisconnectedException} if the VM disconnects in the meantime.
+	 *
+	 * @param commandPacket
+	 *            the command packet that has been sent to the VM
+	 * @return future reply to the given command packet
+	 */
+	public CompletableFuture<JdwpReplyPacket> getReplyAsync(JdwpCommandPacket commandPacket) {
+		final int id = commandPacket.getId();
+		CompletableFuture<JdwpReplyPacket> slot = getReplySlot(id);
+		if (VMIsDisconnected()) {
+			slot.complete(null);
+		}
+		return slot.orTimeout(fVM.getRequestTimeout(), TimeUnit.MILLISECONDS)
+				.handle((packet, failure) -> releaseReplySlot(id, slot));
+	}
+
+	/**
+	 * Removes the reply slot for the given id once its caller has stopped
+	 * waiting and returns the reply it holds. If no reply has been delivered,
+	 * the id is remembered as timed out so that a late reply is discarded.
+	 *
+	 * @param id
+	 *            the id of the command packet the reply answers
+	 * @param slot
+	 *            the reply slot of the given id
+	 * @return the reply packet
+	 * @throws VMDisconnectedException
+	 *             if the VM has been disconnected
+	 * @throws TimeoutException
+	 *             if no reply has been received
+	 */
+	private JdwpReplyPacket releaseReplySlot(int id, CompletableFuture<JdwpReplyPacket> slot) {
+		JdwpReplyPacket packet;
+		synchronized (fReplySlots) {
+			fReplySlots.remove(Integer.valueOf(id));
+			packet = slot.isCompletedExceptionally() ? null : slot.getNow(null);
+			// Check for a timeout, while still holding the lock so that a
+			// late reply is reliably discarded
+			if (packet == null && !VMIsDisconnected()) {
+				synchronized (fTimedOutPackets) {
+					fTimedOutPackets.add(id, System.currentTimeMillis());
+					fTimedOutReplyCount++;
+				}
 			}
 		}
 		// Check for an IO Exception.
 		if (VMIsDisconnected())
 			throw new VMDisconnectedException(
 					ConnectMessages.PacketReceiveManager_Got_IOException_from_Virtual_Machine_2);
-		// Check for a timeout.
 		if (packet == null) {
-			synchronized (fTimedOutPackets) {
-				fTimedOutPackets.add(Integer.valueOf(id));
-			}
 			throw new TimeoutException(NLS.bind(
 					ConnectMessages.PacketReceiveManager_0, new String[] { id
 							+ "" })); //$NON-NLS-1$
@@ -201,10 +278,47 @@ public class PacketReceiveManager extends PacketManager {
 	}
 
 	/**
-	 * @return Returns a specified Reply Packet from the Virtual Machine.
+	 * Returns whether the given packet id may not be reused for a new request,
+	 * because a reply with that id is still awaited or has timed out and may
+	 * still arrive.
+	 *
+	 * @param id
+	 *            packet id
+	 * @return whether the given packet id is in use
 	 */
-	public JdwpReplyPacket getReply(JdwpCommandPacket commandPacket) {
-		return getReply(commandPacket.getId(), fVM.getRequestTimeout());
+	public boolean isPacketIdInUse(int id) {
+		synchronized (fReplySlots) {
+			if (fReplySlots.containsKey(Integer.valueOf(id))) {
+				return true;
+			}
+		}
+		synchronized (fTimedOutPackets) {
+			return fTimedOutPackets.contains(id);
+		}
+	}
+
+	/**
+	 * Returns the number of requests to the Virtual Machine whose reply has
+	 * not been received within the request timeout.
+	 *
+	 * @return number of timed out replies
+	 */
+	public long getTimedOutReplyCount() {
+		synchronized (fTimedOutPackets) {
+			return fTimedOutReplyCount;
+		}
+	}
+
+	/**
+	 * Returns the number of replies that have been received after their
+	 * request timed out, and have therefore been discarded.
+	 *
+	 * @return number of discarded late replies
+	 */
+	public long getDiscardedReplyCount() {
+		synchronized (fTimedOutPackets) {
+			return fDiscardedReplyCount;
+		}
 	}
 
 	/**
@@ -237,18 +351,17 @@ public class PacketReceiveManager extends PacketManager {
 	}
 
 	/**
-	 * @return Returns a specified reply packet from the reply packet list.
+	 * Returns the slot in which the reply with the given id is (or will be)
+	 * delivered, creating it if required.
+	 *
+	 * @param id
+	 *            the id of the command packet the reply answers
+	 * @return the reply slot for the given id
 	 */
-	private JdwpReplyPacket removeReplyPacket(int id) {
-		ListIterator<JdwpReplyPacket> iter = fReplyPackets.listIterator();
-		while (iter.hasNext()) {
-			JdwpReplyPacket packet = iter.next();
-			if (packet.getId() == id) {
-				iter.remove();
-				return packet;
-			}
+	private CompletableFuture<JdwpReplyPacket> getReplySlot(int id) {
+		synchronized (fReplySlots) {
+			return fReplySlots.computeIfAbsent(Integer.valueOf(id), k -> new CompletableFuture<>());
 		}
-		return null;
 	}
 
 	/**
@@ -276,21 +389,28 @@ public class PacketReceiveManager extends PacketManager {
 			if (fTimedOutPackets.isEmpty()) {
 				return false;
 			}
-			Integer id = Integer.valueOf(packet.getId());
-			return fTimedOutPackets.remove(id);
+			if (!fTimedOutPackets.remove(packet.getId(), System.currentTimeMillis())) {
+				return false;
+			}
+			fDiscardedReplyCount++;
+			if (JDIDebugOptions.DEBUG) {
+				JDIDebugOptions.trace("Discarded late reply to packet: " + packet.getId() //$NON-NLS-1$
+						+ " (" + fDiscardedReplyCount + " of " + fTimedOutReplyCount + " timed out replies discarded)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			return true;
 		}
 	}
 
 	/**
-	 * Add a reply packet to the reply packet list.
+	 * Hand a reply packet over to the slot of the caller waiting for it.
 	 */
 	private void addReplyPacket(JdwpReplyPacket packet) {
-		if (isTimedOut(packet)) {
-			return; // already timed out. No need to keep this one
-		}
-		synchronized (fReplyPackets) {
-			fReplyPackets.add(packet);
-			fReplyPackets.notifyAll();
+		synchronized (fReplySlots) {
+			if (isTimedOut(packet)) {
+				return; // already timed out. No need to keep this one
+			}
+			// only the caller waiting on this id is woken up
+			getReplySlot(packet.getId()).complete(packet);
 		}
 	}
 
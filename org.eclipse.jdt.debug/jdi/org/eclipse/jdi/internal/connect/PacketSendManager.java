@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,11 @@ package org.eclipse.jdi.internal.connect;
 
 import java.io.IOException;
 import java.io.InterruptedIOException;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
 
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpPacket;
 import org.eclipse.osgi.util.NLS;
 
@@ -26,18 +29,72 @@ import com.sun.jdi.connect.spi.Connection;
 /**
  * This class implements a thread that sends available packets to the Virtual
  * Machine.
- *
+ * <p>
+ * Packets are queued in priority lanes, so that a burst of low priority
+ * requests does not delay the commands the user is waiting for. Commands that
+ * resume, suspend or step threads are sent first, then the requests of the
+ * threads with the default interactive priority, and last the requests of
+ * threads that have set a background priority, which are also rate limited.
+ * Packets of the same lane are sent in the order they were queued.
+ * </p>
  */
 public class PacketSendManager extends PacketManager {
-	/** List of packets to be sent to Virtual Machine */
-	private LinkedList<JdwpPacket> fOutgoingPackets;
+	/** Priority of commands that resume, suspend or step threads. */
+	public static final int PRIORITY_CONTROL = 0;
+	/** Default priority, for requests the user is waiting for. */
+	public static final int PRIORITY_INTERACTIVE = 1;
+	/** Priority of requests for decorations and other secondary information. */
+	public static final int PRIORITY_BACKGROUND = 2;
+
+	/** Size of the buffer that batches of packets are written to. */
+	private static final int SEND_BUFFER_SIZE = 8192;
+
+	/** Number of background packets that may be sent per second. */
+	private static final int BACKGROUND_PACKETS_PER_SECOND = 500;
+
+	/** Number of background packets that may be sent at once after a pause. */
+	private static final int BACKGROUND_PACKETS_BURST = 50;
+
+	/** Priority of the requests of the current thread. */
+	private static final ThreadLocal<Integer> fgThreadPriority = ThreadLocal.withInitial(() -> Integer.valueOf(PRIORITY_INTERACTIVE));
+
+	/** Lock guarding the lanes of packets to be sent to Virtual Machine. */
+	private final Object fOutgoingPackets = new Object();
+
+	/** Packets to be sent to Virtual Machine, one queue per priority. */
+	private final ArrayDeque<JdwpPacket> fControlPackets = new ArrayDeque<>();
+	private final ArrayDeque<JdwpPacket> fInteractivePackets = new ArrayDeque<>();
+	private final ArrayDeque<JdwpPacket> fBackgroundPackets = new ArrayDeque<>();
+
+	/**
+	 * Number of background packets that may currently be sent, only accessed
+	 * by the sending thread.
+	 */
+	private double fBackgroundTokens = BACKGROUND_PACKETS_BURST;
+
+	/** Time at which background tokens were last added, in nanoseconds. */
+	private long fBackgroundTokensTime = System.nanoTime();
+
+	/**
+	 * List of packets taken from the outgoing packets to be sent in one batch,
+	 * only accessed by the sending thread.
+	 */
+	private ArrayList<JdwpPacket> fPacketsToSend;
+
+	/**
+	 * Buffer a batch of packets is serialized to, only accessed by the sending
+	 * thread. Larger batches are serialized to a buffer of their own, so that
+	 * a single large batch does not hold on to its memory afterwards.
+	 */
+	private final byte[] fSendBuffer;
 
 	/**
 	 * Create a new thread that send packets to the Virtual Machine.
 	 */
 	public PacketSendManager(Connection connection) {
 		super(connection);
-		fOutgoingPackets = new LinkedList<>();
+		fPacketsToSend = new ArrayList<>();
+		fSendBuffer = new byte[SEND_BUFFER_SIZE];
 	}
 
 	@Override
@@ -69,6 +126,61 @@ public class PacketSendManager extends PacketManager {
 		}
 	}
 
+	/**
+	 * Sets the priority of the requests subsequently sent by the calling
+	 * thread, e.g. {@link #PRIORITY_BACKGROUND} while computing decorations.
+	 * Callers must restore the previous priority once done:
+	 *
+	 * <pre>
+	 * int previous = PacketSendManager.setThreadPriority(PacketSendManager.PRIORITY_BACKGROUND);
+	 * try {
+	 * 	...
+	 * } finally {
+	 * 	PacketSendManager.setThreadPriority(previous);
+	 * }
+	 * </pre>
+	 *
+	 * Commands that resume, suspend or step threads are always sent with
+	 * {@link #PRIORITY_CONTROL}.
+	 *
+	 * @param priority
+	 *            one of the <code>PRIORITY_*</code> constants
+	 * @return the previous priority of the calling thread
+	 */
+	public static int setThreadPriority(int priority) {
+		if (priority < PRIORITY_CONTROL || priority > PRIORITY_BACKGROUND) {
+			throw new IllegalArgumentException("Invalid priority: " + priority); //$NON-NLS-1$
+		}
+		int previous = fgThreadPriority.get().intValue();
+		fgThreadPriority.set(Integer.valueOf(priority));
+		return previous;
+	}
+
+	/**
+	 * @return Returns the priority with which the given packet is sent.
+	 */
+	private static int getPriority(JdwpPacket packet) {
+		if (packet instanceof JdwpCommandPacket) {
+			switch (((JdwpCommandPacket) packet).getCommand()) {
+			case JdwpCommandPacket.VM_SUSPEND:
+			case JdwpCommandPacket.VM_RESUME:
+			case JdwpCommandPacket.VM_DISPOSE:
+			case JdwpCommandPacket.VM_EXIT:
+			case JdwpCommandPacket.TR_SUSPEND:
+			case JdwpCommandPacket.TR_RESUME:
+			case JdwpCommandPacket.TR_STOP:
+			case JdwpCommandPacket.TR_INTERRUPT:
+			// step requests are created and deleted around every step
+			case JdwpCommandPacket.ER_SET:
+			case JdwpCommandPacket.ER_CLEAR:
+				return PRIORITY_CONTROL;
+			default:
+				break;
+			}
+		}
+		return fgThreadPriority.get().intValue();
+	}
+
 	/**
 	 * Add a packet to be sent to the Virtual Machine.
 	 */
@@ -93,9 +205,16 @@ public class PacketSendManager extends PacketManager {
 			throw new VMDisconnectedException(message);
 		}
 
+		int priority = getPriority(packet);
 		synchronized (fOutgoingPackets) {
-			// Add packet to list of packets to send.
-			fOutgoingPackets.add(packet);
+			// Add packet to the lane of its priority.
+			if (priority == PRIORITY_CONTROL) {
+				fControlPackets.add(packet);
+			} else if (priority == PRIORITY_BACKGROUND) {
+				fBackgroundPackets.add(packet);
+			} else {
+				fInteractivePackets.add(packet);
+			}
 			// Notify PacketSendThread that data is available.
 			fOutgoingPackets.notifyAll();
 		}
@@ -106,22 +225,87 @@ public class PacketSendManager extends PacketManager {
 	 */
 	private void sendAvailablePackets() throws InterruptedException,
 			IOException {
-		LinkedList<JdwpPacket> packetsToSend = new LinkedList<>();
 		synchronized (fOutgoingPackets) {
-			while (fOutgoingPackets.isEmpty()) {
-				fOutgoingPackets.wait();
+			while (!takePacketsToSend()) {
+				if (fBackgroundPackets.isEmpty()) {
+					fOutgoingPackets.wait();
+				} else {
+					// wait for the next background token unless a more
+					// urgent packet arrives first
+					TimeUnit.NANOSECONDS.timedWait(fOutgoingPackets, getBackgroundTokenDelay());
+				}
+			}
+		}
+
+		try {
+			// Put available packets on Output Stream.
+			Connection connection = getConnection();
+			if (connection instanceof PacketBatchWriter) {
+				int length = 0;
+				for (JdwpPacket packet : fPacketsToSend) {
+					length += packet.getLength();
+				}
+				byte[] buffer = length > fSendBuffer.length ? new byte[length] : fSendBuffer;
+				serializePacketsToSend(buffer);
+				((PacketBatchWriter) connection).writePackets(buffer, length);
+			} else {
+				for (JdwpPacket packet : fPacketsToSend) {
+					connection.writePacket(packet.getPacketAsBytes());
+				}
 			}
-			packetsToSend.addAll(fOutgoingPackets);
-			fOutgoingPackets.clear();
+		} finally {
+			fPacketsToSend.clear();
 		}
+	}
 
-		// Put available packets on Output Stream.
-		while (packetsToSend.size() > 0) {
-			// Note that only JdwpPackets are added to the list, so a
-			// ClassCastException can't occur.
-			JdwpPacket packet = packetsToSend.removeFirst();
-			byte[] bytes = packet.getPacketAsBytes();
-			getConnection().writePacket(bytes);
+	/**
+	 * Moves the packets that can be sent now to the packets to send, in order
+	 * of priority. Must be called while holding the lock on the lanes.
+	 *
+	 * @return Returns whether there are packets to send.
+	 */
+	private boolean takePacketsToSend() {
+		fPacketsToSend.addAll(fControlPackets);
+		fControlPackets.clear();
+		fPacketsToSend.addAll(fInteractivePackets);
+		fInteractivePackets.clear();
+		if (!fBackgroundPackets.isEmpty()) {
+			refillBackgroundTokens();
+			while (fBackgroundTokens >= 1 && !fBackgroundPackets.isEmpty()) {
+				fPacketsToSend.add(fBackgroundPackets.poll());
+				fBackgroundTokens--;
+			}
+		}
+		return !fPacketsToSend.isEmpty();
+	}
+
+	/**
+	 * Adds the background tokens earned since the last refill.
+	 */
+	private void refillBackgroundTokens() {
+		long now = System.nanoTime();
+		double earned = (now - fBackgroundTokensTime) * BACKGROUND_PACKETS_PER_SECOND / 1e9;
+		fBackgroundTokens = Math.min(BACKGROUND_PACKETS_BURST, fBackgroundTokens + earned);
+		fBackgroundTokensTime = now;
+	}
+
+	/**
+	 * @return Returns the time in nanoseconds until the next background packet
+	 *         may be sent.
+	 */
+	private long getBackgroundTokenDelay() {
+		long delay = (long) ((1 - fBackgroundTokens) * 1e9 / BACKGROUND_PACKETS_PER_SECOND);
+		return Math.max(delay, 1);
+	}
+
+	/**
+	 * Serializes the packets to send one after the other into the given
+	 * buffer, which must be large enough to hold them.
+	 */
+	private void serializePacketsToSend(byte[] buffer) throws IOException {
+		int index = 0;
+		for (JdwpPacket packet : fPacketsToSend) {
+			index = packet.writeTo(buffer, index);
 		}
 	}
 }
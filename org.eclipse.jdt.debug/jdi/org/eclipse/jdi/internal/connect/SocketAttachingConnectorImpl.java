@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,6 +34,10 @@ public class SocketAttachingConnectorImpl extends ConnectorImpl implements
 	/** Port to which is attached. */
 	private int fPort;
 	private int fTimeout;
+	/** Whether to connect through NIO socket channels. */
+	private boolean fUseChannels;
+	/** Whether to exchange compressed frames with a compression relay. */
+	private boolean fUseCompression;
 
 	/**
 	 * Creates new SocketAttachingConnectorImpl.
@@ -52,7 +56,7 @@ public class SocketAttachingConnectorImpl extends ConnectorImpl implements
 	 */
 	@Override
 	public Map<String, Connector.Argument> defaultArguments() {
-		HashMap<String, Connector.Argument> arguments = new HashMap<>(2);
+		HashMap<String, Connector.Argument> arguments = new HashMap<>(5);
 
 		// Host name
 		StringArgumentImpl strArg = new StringArgumentImpl(
@@ -71,6 +75,18 @@ public class SocketAttachingConnectorImpl extends ConnectorImpl implements
 		timeoutArg.setValue(0); // by default wait forever
 		arguments.put(timeoutArg.name(), timeoutArg);
 
+		// NIO channels
+		BooleanArgumentImpl channelsArg = new BooleanArgumentImpl(
+				"niochannels", ConnectMessages.SocketAttachingConnectorImpl_Use_NIO_channels_description, ConnectMessages.SocketAttachingConnectorImpl_Use_NIO_channels, false); //$NON-NLS-1$
+		channelsArg.setValue(false);
+		arguments.put(channelsArg.name(), channelsArg);
+
+		// Compression
+		BooleanArgumentImpl compressionArg = new BooleanArgumentImpl(
+				"compression", ConnectMessages.SocketAttachingConnectorImpl_Use_compression_description, ConnectMessages.SocketAttachingConnectorImpl_Use_compression, false); //$NON-NLS-1$
+		compressionArg.setValue(false);
+		arguments.put(compressionArg.name(), compressionArg);
+
 		return arguments;
 	}
 
@@ -112,6 +128,12 @@ public class SocketAttachingConnectorImpl extends ConnectorImpl implements
 					fTimeout = timeoutArg.intValue();
 				}
 			}
+			attribute = "niochannels"; //$NON-NLS-1$
+			object = connectionArgs.get(attribute);
+			fUseChannels = object != null && ((Connector.BooleanArgument) object).booleanValue();
+			attribute = "compression"; //$NON-NLS-1$
+			object = connectionArgs.get(attribute);
+			fUseCompression = object != null && ((Connector.BooleanArgument) object).booleanValue();
 		} catch (ClassCastException e) {
 			throw new IllegalConnectorArgumentsException(
 					ConnectMessages.SocketAttachingConnectorImpl_Connection_argument_is_not_of_the_right_type_6,
@@ -136,6 +158,8 @@ public class SocketAttachingConnectorImpl extends ConnectorImpl implements
 		getConnectionArguments(connectionArgs);
 		Connection connection = null;
 		try {
+			((SocketTransportImpl) fTransport).setUseChannels(fUseChannels);
+			((SocketTransportImpl) fTransport).setUseCompression(fUseCompression);
 			connection = ((SocketTransportImpl) fTransport).attach(fHostname,
 					fPort, fTimeout, 0);
 		} catch (IllegalArgumentException e) {
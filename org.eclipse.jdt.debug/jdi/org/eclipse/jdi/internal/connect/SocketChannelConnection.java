@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import com.sun.jdi.connect.spi.ClosedConnectionException;
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * A connection that talks to the Virtual Machine through a blocking
+ * {@link SocketChannel}. Packets are read straight into the array that is
+ * handed out, and the length prefix is read into a buffer that is reused for
+ * every packet, so no stream objects are created per packet.
+ */
+public class SocketChannelConnection extends Connection implements PacketBatchWriter {
+
+	/** Length of the length field that prefixes every JDWP packet. */
+	private static final int LENGTH_FIELD_SIZE = 4;
+
+	private SocketChannel fChannel;
+
+	/** Buffer the length of each packet is read into, only used by the reader. */
+	private final ByteBuffer fLengthBuffer = ByteBuffer.allocate(LENGTH_FIELD_SIZE);
+
+	/** Lock held while reading a packet. */
+	private final Object fReadLock = new Object();
+
+	/** Lock held while writing packets. */
+	private final Object fWriteLock = new Object();
+
+	SocketChannelConnection(SocketChannel channel) throws IOException {
+		fChannel = channel;
+		if (fChannel.supportedOptions().contains(StandardSocketOptions.TCP_NODELAY)) {
+			// not supported by Unix domain socket channels
+			fChannel.setOption(StandardSocketOptions.TCP_NODELAY, Boolean.TRUE);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#close()
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (fChannel == null)
+			return;
+
+		fChannel.close();
+		fChannel = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#isOpen()
+	 */
+	@Override
+	public synchronized boolean isOpen() {
+		return fChannel != null;
+	}
+
+	/**
+	 * @return Returns the channel of this connection.
+	 * @throws ClosedConnectionException
+	 *             if the connection has been closed
+	 */
+	private synchronized SocketChannel getChannel() throws ClosedConnectionException {
+		if (fChannel == null) {
+			throw new ClosedConnectionException();
+		}
+		return fChannel;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#readPacket()
+	 */
+	@Override
+	public byte[] readPacket() throws IOException {
+		SocketChannel channel = getChannel();
+		synchronized (fReadLock) {
+			fLengthBuffer.clear();
+			try {
+				readFully(channel, fLengthBuffer);
+			} catch (IOException e) {
+				throw new ClosedConnectionException();
+			}
+			int packetLength = fLengthBuffer.getInt(0);
+
+			if (packetLength < 11) {
+				throw new IOException("JDWP Packet under 11 bytes"); //$NON-NLS-1$
+			}
+
+			byte[] packet = new byte[packetLength];
+			ByteBuffer packetBuffer = ByteBuffer.wrap(packet);
+			packetBuffer.putInt(packetLength);
+			readFully(channel, packetBuffer);
+			return packet;
+		}
+	}
+
+	/**
+	 * Reads from the channel until the given buffer is full.
+	 */
+	private static void readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				throw new ClosedConnectionException();
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#writePacket(byte[])
+	 */
+	@Override
+	public void writePacket(byte[] packet) throws IOException {
+		if (packet == null) {
+			throw new IllegalArgumentException(
+					"Invalid JDWP Packet, packet cannot be null"); //$NON-NLS-1$
+		}
+		if (packet.length < 11) {
+			throw new IllegalArgumentException(
+					"Invalid JDWP Packet, must be at least 11 bytes. PacketSize:" + packet.length); //$NON-NLS-1$
+		}
+
+		int packetSize = ByteBuffer.wrap(packet).getInt(0);
+		if (packetSize < 11) {
+			throw new IllegalArgumentException(
+					"Invalid JDWP Packet, must be at least 11 bytes. PacketSize:" + packetSize); //$NON-NLS-1$
+		}
+
+		if (packetSize > packet.length) {
+			throw new IllegalArgumentException(
+					"Invalid JDWP packet: Specified length is greater than actual length"); //$NON-NLS-1$
+		}
+
+		// packet.length can be > packetSize. Sending too much will cause
+		// errors on the other side
+		writePackets(packet, packetSize);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.jdi.internal.connect.PacketBatchWriter#writePackets(byte[], int)
+	 */
+	@Override
+	public void writePackets(byte[] packets, int length) throws IOException {
+		SocketChannel channel = getChannel();
+		ByteBuffer buffer = ByteBuffer.wrap(packets, 0, length);
+		synchronized (fWriteLock) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,7 +23,7 @@ import java.net.Socket;
 import com.sun.jdi.connect.spi.ClosedConnectionException;
 import com.sun.jdi.connect.spi.Connection;
 
-public class SocketConnection extends Connection {
+public class SocketConnection extends Connection implements PacketBatchWriter {
 
 	// for attaching connector
 	private Socket fSocket;
@@ -144,6 +144,29 @@ public class SocketConnection extends Connection {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.jdi.internal.connect.PacketBatchWriter#writePackets(byte[], int)
+	 */
+	@Override
+	public void writePackets(byte[] packets, int length) throws IOException {
+		OutputStream stream = null;
+		synchronized (this) {
+			if (!isOpen()) {
+				throw new ClosedConnectionException();
+			}
+			stream = fOutput;
+		}
+
+		synchronized (stream) {
+			// a single write for the whole batch avoids a system call and a
+			// TCP segment per packet
+			stream.write(packets, 0, length);
+			stream.flush();
+		}
+	}
+
 	private int getPacketLength(byte[] packet) {
 		int len = 0;
 		if (packet.length >= 4) {
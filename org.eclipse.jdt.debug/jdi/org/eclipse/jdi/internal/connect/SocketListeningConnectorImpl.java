@@ -26,12 +26,15 @@ import com.sun.jdi.VirtualMachine;
 import com.sun.jdi.connect.Connector;
 import com.sun.jdi.connect.IllegalConnectorArgumentsException;
 import com.sun.jdi.connect.ListeningConnector;
+import com.sun.jdi.connect.spi.Connection;
 
 public class SocketListeningConnectorImpl extends ConnectorImpl implements ListeningConnector {
 	/** Port to which is attached. */
 	private int fPort;
 	/** Timeout before accept returns. */
 	private int fTimeout;
+	/** Whether to accept connections through NIO socket channels. */
+	private boolean fUseChannels;
 
 	/**
 	 * Creates new SocketAttachingConnectorImpl.
@@ -50,7 +53,7 @@ public class SocketListeningConnectorImpl extends ConnectorImpl implements Liste
 	 */
 	@Override
 	public Map<String, Connector.Argument> defaultArguments() {
-		HashMap<String, Connector.Argument> arguments = new HashMap<>(1);
+		HashMap<String, Connector.Argument> arguments = new HashMap<>(4);
 
 		// Port
 		IntegerArgumentImpl intArg = new IntegerArgumentImpl(
@@ -68,6 +71,12 @@ public class SocketListeningConnectorImpl extends ConnectorImpl implements Liste
 		intArg.setValue(1);  // mimics previous behaviour, allowing a single connection
 		arguments.put(intArg.name(), intArg);
 
+		// NIO channels
+		BooleanArgumentImpl channelsArg = new BooleanArgumentImpl(
+				"niochannels", ConnectMessages.SocketListeningConnectorImpl_Use_NIO_channels_description, ConnectMessages.SocketListeningConnectorImpl_Use_NIO_channels, false); //$NON-NLS-1$
+		channelsArg.setValue(false);
+		arguments.put(channelsArg.name(), channelsArg);
+
 		return arguments;
 	}
 
@@ -112,6 +121,9 @@ public class SocketListeningConnectorImpl extends ConnectorImpl implements Liste
 			} else {
 				fTimeout = 0;
 			}
+			attribute = "niochannels"; //$NON-NLS-1$
+			BooleanArgument channelsArgument = (BooleanArgument) connectionArgs.get(attribute);
+			fUseChannels = channelsArgument != null && channelsArgument.booleanValue();
 		} catch (ClassCastException e) {
 			throw new IllegalConnectorArgumentsException(
 					ConnectMessages.SocketListeningConnectorImpl_Connection_argument_is_not_of_the_right_type_6,
@@ -138,6 +150,7 @@ public class SocketListeningConnectorImpl extends ConnectorImpl implements Liste
 		getConnectionArguments(connectionArgs);
 		String result = null;
 		try {
+			((SocketTransportImpl) fTransport).setUseChannels(fUseChannels);
 			result = ((SocketTransportImpl) fTransport).startListening(fPort);
 		} catch (IllegalArgumentException e) {
 			throw new IllegalConnectorArgumentsException(
@@ -163,7 +176,7 @@ public class SocketListeningConnectorImpl extends ConnectorImpl implements Liste
 	@Override
 	public VirtualMachine accept(Map<String, ? extends Connector.Argument> connectionArgs) throws IOException, IllegalConnectorArgumentsException {
 		getConnectionArguments(connectionArgs);
-		SocketConnection connection = (SocketConnection) ((SocketTransportImpl) fTransport)
+		Connection connection = ((SocketTransportImpl) fTransport)
 				.accept(fTimeout, 0);
 		return establishedConnection(connection);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,25 @@ public class SocketTransportImpl implements Transport {
 		return TRANSPORT_NAME;
 	}
 
+	/**
+	 * Sets whether subsequent connections use NIO socket channels.
+	 *
+	 * @see SocketTransportService#setUseChannels(boolean)
+	 */
+	public void setUseChannels(boolean useChannels) {
+		service.setUseChannels(useChannels);
+	}
+
+	/**
+	 * Sets whether subsequent connections exchange compressed frames with a
+	 * compression relay.
+	 *
+	 * @see SocketTransportService#setUseCompression(boolean)
+	 */
+	public void setUseCompression(boolean useCompression) {
+		service.setUseCompression(useCompression);
+	}
+
 	public Connection attach(String hostname, int port, long attachTimeout,
 			long handshakeTimeout) throws IOException {
 		return service.attach(hostname, port, attachTimeout, handshakeTimeout);
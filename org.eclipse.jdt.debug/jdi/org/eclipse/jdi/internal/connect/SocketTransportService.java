@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,9 +21,12 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.util.Arrays;
 
 import org.eclipse.jdi.TimeoutException;
@@ -80,6 +83,56 @@ public class SocketTransportService extends TransportService {
 	// for listening or accepting connectors
 	private ServerSocket fServerSocket;
 
+	/**
+	 * Whether connections are made through NIO socket channels rather than
+	 * socket streams.
+	 */
+	private boolean fUseChannels = false;
+
+	/**
+	 * Sets whether connections that are subsequently attached or listened for
+	 * use NIO socket channels ({@link SocketChannelConnection}) rather than
+	 * socket streams ({@link SocketConnection}).
+	 *
+	 * @param useChannels
+	 *            whether to use socket channels
+	 */
+	public void setUseChannels(boolean useChannels) {
+		fUseChannels = useChannels;
+	}
+
+	/**
+	 * Whether connections exchange compressed frames with a
+	 * {@link CompressionRelay} rather than plain JDWP packets.
+	 */
+	private boolean fUseCompression = false;
+
+	/**
+	 * Sets whether connections that are subsequently attached or listened for
+	 * exchange compressed frames with a {@link CompressionRelay} running next
+	 * to the debuggee ({@link CompressedSocketConnection}).
+	 *
+	 * @param useCompression
+	 *            whether to use compression
+	 */
+	public void setUseCompression(boolean useCompression) {
+		fUseCompression = useCompression;
+	}
+
+	/**
+	 * Creates the connection for a socket on which the handshake has been
+	 * performed.
+	 */
+	private Connection createConnection(Socket socket, InputStream input, OutputStream output, boolean useCompression) throws IOException {
+		if (useCompression) {
+			return new CompressedSocketConnection(socket, input, output);
+		}
+		if (socket.getChannel() != null) {
+			return new SocketChannelConnection(socket.getChannel());
+		}
+		return new SocketConnection(socket, input, output);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -104,8 +157,9 @@ public class SocketTransportService extends TransportService {
 		}
 		InputStream input = socket.getInputStream();
 		OutputStream output = socket.getOutputStream();
-		performHandshake(input, output, handshakeTimeout);
-		return new SocketConnection(socket, input, output);
+		boolean useCompression = fUseCompression;
+		performHandshake(input, output, handshakeTimeout, useCompression);
+		return createConnection(socket, input, output, useCompression);
 	}
 
 	/*
@@ -139,16 +193,23 @@ public class SocketTransportService extends TransportService {
 		}
 
 		final IOException[] ex = new IOException[1];
-		final SocketConnection[] result = new SocketConnection[1];
+		final Connection[] result = new Connection[1];
+		final boolean useChannels = fUseChannels;
+		final boolean useCompression = fUseCompression;
 		Thread attachThread = new Thread(new Runnable() {
 			@Override
 			public void run() {
 				try {
-					Socket socket = new Socket(host, port);
+					Socket socket;
+					if (useChannels) {
+						socket = SocketChannel.open(new InetSocketAddress(host, port)).socket();
+					} else {
+						socket = new Socket(host, port);
+					}
 					InputStream input = socket.getInputStream();
 					OutputStream output = socket.getOutputStream();
-					performHandshake(input, output, handshakeTimeout);
-					result[0] = new SocketConnection(socket, input, output);
+					performHandshake(input, output, handshakeTimeout, useCompression);
+					result[0] = createConnection(socket, input, output, useCompression);
 				} catch (IOException e) {
 					ex[0] = e;
 				}
@@ -172,8 +233,9 @@ public class SocketTransportService extends TransportService {
 		return result[0];
 	}
 
-	void performHandshake(final InputStream in, final OutputStream out,
-			final long timeout) throws IOException {
+	static void performHandshake(final InputStream in, final OutputStream out,
+			final long timeout, boolean useCompression) throws IOException {
+		final byte[] handshake = useCompression ? CompressedFrames.HANDSHAKE_BYTES : handshakeBytes;
 		final IOException[] ex = new IOException[1];
 		final boolean[] handshakeCompleted = new boolean[1];
 
@@ -181,8 +243,8 @@ public class SocketTransportService extends TransportService {
 			@Override
 			public void run() {
 				try {
-					writeHandshake(out);
-					readHandshake(in);
+					writeHandshake(out, handshake);
+					readHandshake(in, handshake);
 					handshakeCompleted[0] = true;
 				} catch (IOException e) {
 					ex[0] = e;
@@ -213,12 +275,12 @@ public class SocketTransportService extends TransportService {
 		throw new TransportTimeoutException();
 	}
 
-	private void readHandshake(InputStream input) throws IOException {
+	private static void readHandshake(InputStream input, byte[] handshake) throws IOException {
 		try {
 			DataInputStream in = new DataInputStream(input);
-			byte[] handshakeInput = new byte[handshakeBytes.length];
+			byte[] handshakeInput = new byte[handshake.length];
 			in.readFully(handshakeInput);
-			if (!Arrays.equals(handshakeInput, handshakeBytes)) {
+			if (!Arrays.equals(handshakeInput, handshake)) {
 				throw new IOException("Received invalid handshake"); //$NON-NLS-1$
 			}
 		} catch (EOFException e) {
@@ -226,8 +288,8 @@ public class SocketTransportService extends TransportService {
 		}
 	}
 
-	private void writeHandshake(OutputStream out) throws IOException {
-		out.write(handshakeBytes);
+	private static void writeHandshake(OutputStream out, byte[] handshake) throws IOException {
+		out.write(handshake);
 	}
 
 	/*
@@ -300,7 +362,15 @@ public class SocketTransportService extends TransportService {
 			host = "localhost"; //$NON-NLS-1$
 		}
 
-		fServerSocket = new ServerSocket(port);
+		if (fUseChannels) {
+			// sockets accepted by the adaptor of a server socket channel
+			// are backed by a socket channel as well
+			ServerSocketChannel serverChannel = ServerSocketChannel.open();
+			serverChannel.bind(new InetSocketAddress(port));
+			fServerSocket = serverChannel.socket();
+		} else {
+			fServerSocket = new ServerSocket(port);
+		}
 		port = fServerSocket.getLocalPort();
 		ListenKey listenKey = new SocketListenKey(host + ":" + port); //$NON-NLS-1$
 		return listenKey;
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+/**
+ * Bounded set of the ids of packets whose reply has timed out, used to discard
+ * replies that arrive late. Ids are kept as primitive ints in an open
+ * addressing hash table, so that checking a received reply is a constant time
+ * operation. Ids are evicted in the order they were added once they are older
+ * than the maximum age or once the set is full, since a reply that has not
+ * arrived by then is not expected anymore.
+ * <p>
+ * This class is not thread safe, callers must synchronize on it.
+ * </p>
+ */
+public class TimedOutPacketIds {
+
+	/** Marks an empty slot of the hash table. Packet ids are never 0. */
+	private static final int EMPTY = 0;
+
+	/** Ids in the order they were added, as a ring buffer. */
+	private final int[] fQueueIds;
+	/** Times at which the ids of the ring buffer were added. */
+	private final long[] fQueueTimes;
+	/** Index of the oldest entry of the ring buffer. */
+	private int fQueueHead = 0;
+	/** Number of entries in the ring buffer. */
+	private int fQueueSize = 0;
+	/** Sequence number of the oldest entry of the ring buffer. */
+	private long fQueueHeadSequence = 0;
+
+	/** Hash table of the ids in the set, with linear probing. */
+	private final int[] fTableIds;
+	/** Ring buffer sequence numbers of the ids of the hash table. */
+	private final long[] fTableSequences;
+	/** Number of ids in the set. */
+	private int fSize = 0;
+
+	private final long fMaxAge;
+
+	/**
+	 * Creates an empty set.
+	 *
+	 * @param capacity
+	 *            the maximum number of ids kept
+	 * @param maxAge
+	 *            the time in milliseconds after which an id is evicted
+	 */
+	public TimedOutPacketIds(int capacity, long maxAge) {
+		fQueueIds = new int[capacity];
+		fQueueTimes = new long[capacity];
+		int tableSize = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+		fTableIds = new int[tableSize];
+		fTableSequences = new long[tableSize];
+		fMaxAge = maxAge;
+	}
+
+	/**
+	 * Adds the given id to the set.
+	 *
+	 * @param id
+	 *            the id of the packet that has timed out, must not be 0
+	 * @param now
+	 *            the current time in milliseconds
+	 */
+	public void add(int id, long now) {
+		evictExpired(now);
+		if (fQueueSize == fQueueIds.length) {
+			evictOldest();
+		}
+		long sequence = fQueueHeadSequence + fQueueSize;
+		int index = (fQueueHead + fQueueSize) % fQueueIds.length;
+		fQueueIds[index] = id;
+		fQueueTimes[index] = now;
+		fQueueSize++;
+
+		int slot = indexOf(id);
+		if (fTableIds[slot] == EMPTY) {
+			fTableIds[slot] = id;
+			fSize++;
+		}
+		fTableSequences[slot] = sequence;
+	}
+
+	/**
+	 * Removes the given id from the set.
+	 *
+	 * @param id
+	 *            packet id
+	 * @param now
+	 *            the current time in milliseconds
+	 * @return whether the set contained the id
+	 */
+	public boolean remove(int id, long now) {
+		evictExpired(now);
+		if (fSize == 0 || id == EMPTY) {
+			return false;
+		}
+		int slot = indexOf(id);
+		if (fTableIds[slot] == EMPTY) {
+			return false;
+		}
+		// the entry of the ring buffer stays until it is evicted
+		removeSlot(slot);
+		return true;
+	}
+
+	/**
+	 * @return Returns whether the set contains the given id.
+	 */
+	public boolean contains(int id) {
+		return fSize > 0 && id != EMPTY && fTableIds[indexOf(id)] != EMPTY;
+	}
+
+	/**
+	 * @return Returns whether the set is empty.
+	 */
+	public boolean isEmpty() {
+		return fSize == 0;
+	}
+
+	/**
+	 * @return Returns the number of ids in the set.
+	 */
+	public int size() {
+		return fSize;
+	}
+
+	/**
+	 * Evicts the ids that have been added longer than the maximum age ago.
+	 */
+	private void evictExpired(long now) {
+		while (fQueueSize > 0 && now - fQueueTimes[fQueueHead] > fMaxAge) {
+			evictOldest();
+		}
+	}
+
+	/**
+	 * Evicts the oldest entry of the ring buffer, and its id from the set
+	 * unless the id has been added again since.
+	 */
+	private void evictOldest() {
+		int id = fQueueIds[fQueueHead];
+		int slot = indexOf(id);
+		if (fTableIds[slot] != EMPTY && fTableSequences[slot] == fQueueHeadSequence) {
+			removeSlot(slot);
+		}
+		fQueueHead = (fQueueHead + 1) % fQueueIds.length;
+		fQueueSize--;
+		fQueueHeadSequence++;
+	}
+
+	/**
+	 * @return Returns the slot of the hash table that holds the given id, or
+	 *         the empty slot where it would be inserted.
+	 */
+	private int indexOf(int id) {
+		int mask = fTableIds.length - 1;
+		int slot = hash(id) & mask;
+		while (fTableIds[slot] != EMPTY && fTableIds[slot] != id) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Clears the given slot of the hash table, moving back the entries that
+	 * follow it so that no lookup passes over an empty slot.
+	 */
+	private void removeSlot(int slot) {
+		int mask = fTableIds.length - 1;
+		int empty = slot;
+		int next = (slot + 1) & mask;
+		while (fTableIds[next] != EMPTY) {
+			int home = hash(fTableIds[next]) & mask;
+			// move the entry if its home slot is not between the empty slot
+			// and its current slot
+			if (((next - home) & mask) >= ((next - empty) & mask)) {
+				fTableIds[empty] = fTableIds[next];
+				fTableSequences[empty] = fTableSequences[next];
+				empty = next;
+			}
+			next = (next + 1) & mask;
+		}
+		fTableIds[empty] = EMPTY;
+		fSize--;
+	}
+
+	private static int hash(int id) {
+		// packet ids are sequential, spread them over the table
+		int h = id * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdi.internal.VirtualMachineManagerImpl;
+
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.connect.Connector;
+import com.sun.jdi.connect.IllegalConnectorArgumentsException;
+import com.sun.jdi.connect.ListeningConnector;
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * Listening connector for VMs on the same host that connect through a Unix
+ * domain socket, i.e. with a <code>dt_unix</code> JDWP transport.
+ */
+public class UnixDomainListeningConnectorImpl extends ConnectorImpl implements ListeningConnector {
+	/** Name of this connector. */
+	public static final String NAME = "org.eclipse.jdt.debug.UnixDomainListen"; //$NON-NLS-1$
+
+	/** Path of the socket file to listen on. */
+	private String fPath;
+	/** Timeout before accept returns. */
+	private int fTimeout;
+
+	/**
+	 * Creates new UnixDomainListeningConnectorImpl.
+	 */
+	public UnixDomainListeningConnectorImpl(
+			VirtualMachineManagerImpl virtualMachineManager) {
+		super(virtualMachineManager);
+
+		// Create communication protocol specific transport.
+		UnixDomainTransportImpl transport = new UnixDomainTransportImpl();
+		setTransport(transport);
+	}
+
+	/**
+	 * @return Returns the default arguments.
+	 */
+	@Override
+	public Map<String, Connector.Argument> defaultArguments() {
+		HashMap<String, Connector.Argument> arguments = new HashMap<>(2);
+
+		// Path
+		StringArgumentImpl strArg = new StringArgumentImpl(
+				"path", ConnectMessages.UnixDomainListeningConnectorImpl_Path_of_the_socket_at_which_to_listen_for_VM_connections, ConnectMessages.UnixDomainListeningConnectorImpl_Path, false); //$NON-NLS-1$
+		arguments.put(strArg.name(), strArg);
+
+		// Timeout
+		IntegerArgumentImpl intArg = new IntegerArgumentImpl(
+				"timeout", ConnectMessages.SocketListeningConnectorImpl_Timeout_before_accept_returns_3, ConnectMessages.SocketListeningConnectorImpl_Timeout_4, false, 0, Integer.MAX_VALUE); //$NON-NLS-1$
+		arguments.put(intArg.name(), intArg);
+
+		return arguments;
+	}
+
+	/**
+	 * @return Returns a short identifier for the connector.
+	 */
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	/**
+	 * @return Returns a human-readable description of this connector and its
+	 *         purpose.
+	 */
+	@Override
+	public String description() {
+		return ConnectMessages.UnixDomainListeningConnectorImpl_Accepts_Unix_domain_socket_connections_initiated_by_other_VMs;
+	}
+
+	/**
+	 * Retrieves connection arguments.
+	 */
+	private void getConnectionArguments(Map<String, ? extends Connector.Argument> connectionArgs) throws IllegalConnectorArgumentsException {
+		String attribute = "path"; //$NON-NLS-1$
+		try {
+			// If no path is specified, a temporary socket file is used
+			StringArgument pathArgument = (StringArgument) connectionArgs.get(attribute);
+			fPath = pathArgument == null ? null : pathArgument.value();
+			attribute = "timeout"; //$NON-NLS-1$
+			IntegerArgument argument = (IntegerArgument) connectionArgs.get(attribute);
+			if (argument != null && argument.value() != null) {
+				fTimeout = argument.intValue();
+			} else {
+				fTimeout = 0;
+			}
+		} catch (ClassCastException e) {
+			throw new IllegalConnectorArgumentsException(
+					ConnectMessages.SocketListeningConnectorImpl_Connection_argument_is_not_of_the_right_type_6,
+					attribute);
+		} catch (NumberFormatException e) {
+			throw new IllegalConnectorArgumentsException(
+					ConnectMessages.SocketListeningConnectorImpl_Connection_argument_is_not_a_number_8,
+					attribute);
+		}
+	}
+
+	/**
+	 * Listens for one or more connections initiated by target VMs.
+	 *
+	 * @return Returns the path of the socket at which the connector is
+	 *         listening for a connection.
+	 */
+	@Override
+	public String startListening(Map<String, ? extends Connector.Argument> connectionArgs) throws IOException, IllegalConnectorArgumentsException {
+		getConnectionArguments(connectionArgs);
+		try {
+			return ((UnixDomainTransportImpl) fTransport).startListening(fPath);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalConnectorArgumentsException(e.getMessage(), "path"); //$NON-NLS-1$
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see com.sun.jdi.connect.ListeningConnector#stopListening(java.util.Map)
+	 */
+	@Override
+	public void stopListening(Map<String, ? extends Connector.Argument> connectionArgs) throws IOException {
+		((UnixDomainTransportImpl) fTransport).stopListening();
+	}
+
+	/**
+	 * Waits for a target VM to attach to this connector.
+	 *
+	 * @return Returns a connected Virtual Machine.
+	 */
+	@Override
+	public VirtualMachine accept(Map<String, ? extends Connector.Argument> connectionArgs) throws IOException, IllegalConnectorArgumentsException {
+		getConnectionArguments(connectionArgs);
+		Connection connection = ((UnixDomainTransportImpl) fTransport)
+				.accept(fTimeout, 0);
+		return establishedConnection(connection);
+	}
+
+	/**
+	 * @return Returns whether this listening connector supports multiple
+	 *         connections for a single argument map.
+	 */
+	@Override
+	public boolean supportsMultipleConnections() {
+		return false;
+	}
+}
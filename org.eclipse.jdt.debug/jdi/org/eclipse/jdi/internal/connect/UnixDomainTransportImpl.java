@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.IOException;
+
+import com.sun.jdi.connect.Transport;
+import com.sun.jdi.connect.spi.Connection;
+import com.sun.jdi.connect.spi.TransportService.ListenKey;
+
+public class UnixDomainTransportImpl implements Transport {
+	public static final String TRANSPORT_NAME = "dt_unix"; //$NON-NLS-1$
+
+	UnixDomainTransportService service;
+	private ListenKey fListenKey;
+
+	/**
+	 * Constructs new UnixDomainTransportImpl.
+	 */
+	public UnixDomainTransportImpl() {
+		service = new UnixDomainTransportService();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.Transport#name()
+	 */
+	@Override
+	public String name() {
+		return TRANSPORT_NAME;
+	}
+
+	public Connection attach(String path, long attachTimeout,
+			long handshakeTimeout) throws IOException {
+		return service.attach(path, attachTimeout, handshakeTimeout);
+	}
+
+	public String startListening(String path) throws IOException {
+		fListenKey = service.startListening(path);
+		return fListenKey.address();
+	}
+
+	public void stopListening() throws IOException {
+		service.stopListening(fListenKey);
+	}
+
+	public Connection accept(long attachTimeout, long handshakeTimeout)
+			throws IOException {
+		return service.accept(fListenKey, attachTimeout, handshakeTimeout);
+	}
+
+}
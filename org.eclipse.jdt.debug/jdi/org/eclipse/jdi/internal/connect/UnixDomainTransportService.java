@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import org.eclipse.osgi.util.NLS;
+
+import com.sun.jdi.connect.TransportTimeoutException;
+import com.sun.jdi.connect.spi.Connection;
+import com.sun.jdi.connect.spi.TransportService;
+
+/**
+ * Transport service that connects to VMs on the same host through Unix
+ * domain sockets. Addresses are the paths of the socket files. Unlike a
+ * loopback TCP connection, no port is exposed to other users of the host.
+ */
+public class UnixDomainTransportService extends TransportService {
+
+	private Capabilities fCapabilities = new Capabilities() {
+		@Override
+		public boolean supportsAcceptTimeout() {
+			return true;
+		}
+
+		@Override
+		public boolean supportsAttachTimeout() {
+			return false;
+		}
+
+		@Override
+		public boolean supportsHandshakeTimeout() {
+			return true;
+		}
+
+		@Override
+		public boolean supportsMultipleConnections() {
+			return false;
+		}
+	};
+
+	private static class UnixDomainListenKey extends ListenKey {
+		private String fAddress;
+
+		UnixDomainListenKey(String address) {
+			fAddress = address;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see com.sun.jdi.connect.spi.TransportService.ListenKey#address()
+		 */
+		@Override
+		public String address() {
+			return fAddress;
+		}
+	}
+
+	// for listening or accepting connectors
+	private ServerSocketChannel fServerChannel;
+
+	/** Socket file created by {@link #startListening(String)}. */
+	private Path fSocketPath;
+
+	/**
+	 * Private temporary directory created by {@link #startListening(String)}
+	 * for the socket file when no address is given, or <code>null</code>.
+	 */
+	private Path fSocketDirectory;
+
+	/** Whether Unix domain sockets are supported, determined on first use. */
+	private static Boolean fgSupported;
+
+	/**
+	 * @return Returns whether Unix domain sockets are supported on this host.
+	 */
+	public static synchronized boolean isSupported() {
+		if (fgSupported == null) {
+			try {
+				ServerSocketChannel.open(StandardProtocolFamily.UNIX).close();
+				fgSupported = Boolean.TRUE;
+			} catch (IOException | UnsupportedOperationException e) {
+				fgSupported = Boolean.FALSE;
+			}
+		}
+		return fgSupported.booleanValue();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * com.sun.jdi.connect.spi.TransportService#accept(com.sun.jdi.connect.spi
+	 * .TransportService.ListenKey, long, long)
+	 */
+	@Override
+	public Connection accept(ListenKey listenKey, long attachTimeout,
+			long handshakeTimeout) throws IOException {
+		ServerSocketChannel serverChannel = fServerChannel;
+		if (serverChannel == null) {
+			throw new IOException("Not listening: " + listenKey.address()); //$NON-NLS-1$
+		}
+		SocketChannel channel;
+		if (attachTimeout > 0) {
+			// server socket channels have no accept timeout, wait for the
+			// connection with a selector instead
+			try (Selector selector = Selector.open()) {
+				serverChannel.configureBlocking(false);
+				serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+				if (selector.select(attachTimeout) == 0) {
+					throw new TransportTimeoutException();
+				}
+				channel = serverChannel.accept();
+			} finally {
+				if (serverChannel.isOpen()) {
+					serverChannel.configureBlocking(true);
+				}
+			}
+			if (channel == null) {
+				throw new TransportTimeoutException();
+			}
+			channel.configureBlocking(true);
+		} else {
+			channel = serverChannel.accept();
+		}
+		return handshake(channel, handshakeTimeout);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.TransportService#attach(java.lang.String,
+	 * long, long)
+	 */
+	@Override
+	public Connection attach(String address, long attachTimeout,
+			long handshakeTimeout) throws IOException {
+		SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(address));
+		return handshake(channel, handshakeTimeout);
+	}
+
+	/**
+	 * Performs the JDWP handshake on the given channel and creates the
+	 * connection for it.
+	 */
+	private Connection handshake(SocketChannel channel, long handshakeTimeout) throws IOException {
+		try {
+			SocketTransportService.performHandshake(Channels.newInputStream(channel),
+					Channels.newOutputStream(channel), handshakeTimeout, false);
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+		return new SocketChannelConnection(channel);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.TransportService#capabilities()
+	 */
+	@Override
+	public Capabilities capabilities() {
+		return fCapabilities;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.TransportService#description()
+	 */
+	@Override
+	public String description() {
+		return "org.eclipse.jdt.debug: Unix Domain Socket Implementation of TransportService"; //$NON-NLS-1$
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.TransportService#name()
+	 */
+	@Override
+	public String name() {
+		return "org.eclipse.jdt.debug_UnixDomainTransportService"; //$NON-NLS-1$
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.TransportService#startListening()
+	 */
+	@Override
+	public ListenKey startListening() throws IOException {
+		return startListening(null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * com.sun.jdi.connect.spi.TransportService#startListening(java.lang.String)
+	 */
+	@Override
+	public ListenKey startListening(String address) throws IOException {
+		Path path;
+		Path directory = null;
+		if (address == null || address.isEmpty()) {
+			// a directory only accessible by the owner, so that no other
+			// process can take the name of the socket before it is bound
+			directory = Files.createTempDirectory("jdwp"); //$NON-NLS-1$
+			path = directory.resolve("jdwp.sock"); //$NON-NLS-1$
+		} else {
+			path = Path.of(address);
+			// binding fails if the file exists, e.g. a socket left over by a
+			// crashed session, but only socket files may be replaced
+			if (Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+				if (!Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS).isOther()) {
+					throw new IOException(NLS.bind(ConnectMessages.UnixDomainTransportService_0, address));
+				}
+				Files.delete(path);
+			}
+		}
+		ServerSocketChannel serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+		try {
+			serverChannel.bind(UnixDomainSocketAddress.of(path));
+		} catch (IOException e) {
+			serverChannel.close();
+			if (directory != null) {
+				Files.deleteIfExists(directory);
+			}
+			throw e;
+		}
+		fServerChannel = serverChannel;
+		fSocketPath = path;
+		fSocketDirectory = directory;
+		return new UnixDomainListenKey(path.toString());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * com.sun.jdi.connect.spi.TransportService#stopListening(com.sun.jdi.connect
+	 * .spi.TransportService.ListenKey)
+	 */
+	@Override
+	public void stopListening(ListenKey arg1) throws IOException {
+		if (fServerChannel != null) {
+			try {
+				fServerChannel.close();
+			} catch (IOException e) {
+			}
+		}
+		fServerChannel = null;
+		if (fSocketPath != null) {
+			try {
+				Files.deleteIfExists(fSocketPath);
+			} catch (IOException e) {
+			}
+		}
+		fSocketPath = null;
+		if (fSocketDirectory != null) {
+			try {
+				Files.deleteIfExists(fSocketDirectory);
+			} catch (IOException e) {
+			}
+		}
+		fSocketDirectory = null;
+	}
+}
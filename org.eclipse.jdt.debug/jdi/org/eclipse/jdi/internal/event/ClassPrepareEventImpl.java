@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -58,6 +58,7 @@ public class ClassPrepareEventImpl extends EventImpl implements
 		event.fThreadRef = ThreadReferenceImpl.read(target, dataInStream);
 		event.fReferenceType = ReferenceTypeImpl.readWithTypeTagAndSignature(
 				target, false, dataInStream);
+		vmImpl.classPrepared(event.fReferenceType);
 		target.readInt(
 				"class status", ReferenceTypeImpl.classStatusStrings(), dataInStream); //$NON-NLS-1$
 		return event;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -186,8 +186,6 @@ public class JdwpCommandPacket extends JdwpPacket {
 	/** Mapping of command codes to strings. */
 	private static Map<Integer, String> fgCommandMap = null;
 
-	/** Next id to be assigned. */
-	private static int fgNextId = 1;
 	/**
 	 * Command, note that this field is 256 * JDWP CommandSet (unsigned) + JDWP
 	 * Command.
@@ -201,18 +199,13 @@ public class JdwpCommandPacket extends JdwpPacket {
 	}
 
 	/**
-	 * Creates new JdwpCommandPacket.
+	 * Creates new JdwpCommandPacket with the given id.
+	 *
+	 * @see org.eclipse.jdi.internal.VirtualMachineImpl#nextPacketId()
 	 */
-	public JdwpCommandPacket(int command) {
+	public JdwpCommandPacket(int command, int id) {
 		setCommand(command);
-		setId(getNewId());
-	}
-
-	/**
-	 * @return Returns unique id for command packet.
-	 */
-	public static synchronized int getNewId() {
-		return fgNextId++;
+		setId(id);
 	}
 
 	/**
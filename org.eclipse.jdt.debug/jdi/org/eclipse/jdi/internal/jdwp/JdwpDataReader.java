@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.jdwp;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * A cursor over the data of a JDWP packet. Unlike
+ * {@link JdwpPacket#dataInStream()} it reads directly from the packet data
+ * without creating any stream objects, and decodes strings in place.
+ * <p>
+ * It does not produce verbose output, so it must only be used when the verbose
+ * writer of the reading mirror is not active.
+ * </p>
+ */
+public final class JdwpDataReader {
+
+	private final ByteBuffer fBuffer;
+
+	/**
+	 * Creates a reader over the given data.
+	 *
+	 * @param data
+	 *            the data to read, may be <code>null</code> for no data
+	 */
+	public JdwpDataReader(byte[] data) {
+		fBuffer = ByteBuffer.wrap(data == null ? new byte[0] : data);
+	}
+
+	/**
+	 * @return Returns the number of bytes that have not been read yet.
+	 */
+	public int remaining() {
+		return fBuffer.remaining();
+	}
+
+	public byte readByte() throws IOException {
+		try {
+			return fBuffer.get();
+		} catch (BufferUnderflowException e) {
+			throw new EOFException();
+		}
+	}
+
+	public boolean readBoolean() throws IOException {
+		return readByte() != 0;
+	}
+
+	public short readShort() throws IOException {
+		try {
+			return fBuffer.getShort();
+		} catch (BufferUnderflowException e) {
+			throw new EOFException();
+		}
+	}
+
+	public char readChar() throws IOException {
+		try {
+			return fBuffer.getChar();
+		} catch (BufferUnderflowException e) {
+			throw new EOFException();
+		}
+	}
+
+	public int readInt() throws IOException {
+		try {
+			return fBuffer.getInt();
+		} catch (BufferUnderflowException e) {
+			throw new EOFException();
+		}
+	}
+
+	public long readLong() throws IOException {
+		try {
+			return fBuffer.getLong();
+		} catch (BufferUnderflowException e) {
+			throw new EOFException();
+		}
+	}
+
+	public float readFloat() throws IOException {
+		try {
+			return fBuffer.getFloat();
+		} catch (BufferUnderflowException e) {
+			throw new EOFException();
+		}
+	}
+
+	public double readDouble() throws IOException {
+		try {
+			return fBuffer.getDouble();
+		} catch (BufferUnderflowException e) {
+			throw new EOFException();
+		}
+	}
+
+	/**
+	 * Reads an unsigned, big-endian ID of the given size.
+	 *
+	 * @param size
+	 *            the size of the ID in bytes
+	 * @return Returns the value of the ID.
+	 */
+	public long readID(int size) throws IOException {
+		if (fBuffer.remaining() < size) {
+			throw new EOFException();
+		}
+		long value = 0;
+		for (int i = 0; i < size; i++) {
+			value = value << 8 | (fBuffer.get() & 0xFF);
+		}
+		return value;
+	}
+
+	/**
+	 * Reads a string in the JDWP format, a modified UTF-8 string prefixed by a
+	 * 4 byte length. The string is decoded directly from the packet data.
+	 *
+	 * @return Returns the string that has been read.
+	 * @see JdwpString#read(java.io.DataInputStream)
+	 */
+	public String readString() throws IOException {
+		int utfSize = readInt();
+		if (utfSize < 0 || fBuffer.remaining() < utfSize) {
+			throw new EOFException();
+		}
+		int offset = fBuffer.arrayOffset() + fBuffer.position();
+		String result = JdwpString.decode(fBuffer.array(), offset, utfSize);
+		fBuffer.position(fBuffer.position() + utfSize);
+		return result;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -143,6 +143,13 @@ public abstract class JdwpID {
 		}
 	}
 
+	/**
+	 * Reads ID.
+	 */
+	public void read(JdwpDataReader reader) throws IOException {
+		fValue = reader.readID(getSize());
+	}
+
 	/**
 	 * Writes ID.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -98,6 +98,14 @@ public abstract class JdwpPacket {
 		return new DataInputStream(new ByteArrayInputStream(new byte[0]));
 	}
 
+	/**
+	 * @return Returns a reader that reads the data directly from this packet,
+	 *         without the stream objects of {@link #dataInStream()}.
+	 */
+	public JdwpDataReader dataReader() {
+		return new JdwpDataReader(fDataBuf);
+	}
+
 	/**
 	 * Assigns data to packet.
 	 */
@@ -162,34 +170,49 @@ public abstract class JdwpPacket {
 	}
 
 	public byte[] getPacketAsBytes() throws IOException {
+		byte[] bytes = new byte[getLength()];
+		writeTo(bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * Writes the packet in its wire format into the given array, which must
+	 * have room for {@link #getLength()} bytes after the given index.
+	 *
+	 * @param bytes
+	 *            the array to write to
+	 * @param offset
+	 *            the index at which the packet starts
+	 * @return Returns the index just after the packet.
+	 */
+	public int writeTo(byte[] bytes, int offset) throws IOException {
 		int len = getLength();
-		byte[] bytes = new byte[len];
 
 		// convert len to bytes
-		bytes[0] = (byte) (len >>> 24);
-		bytes[1] = (byte) (len >>> 16);
-		bytes[2] = (byte) (len >>> 8);
-		bytes[3] = (byte) (len >>> 0);
+		bytes[offset] = (byte) (len >>> 24);
+		bytes[offset + 1] = (byte) (len >>> 16);
+		bytes[offset + 2] = (byte) (len >>> 8);
+		bytes[offset + 3] = (byte) (len >>> 0);
 
 		// convert id to bytes
 		int id = getId();
-		bytes[4] = (byte) (id >>> 24);
-		bytes[5] = (byte) (id >>> 16);
-		bytes[6] = (byte) (id >>> 8);
-		bytes[7] = (byte) (id >>> 0);
+		bytes[offset + 4] = (byte) (id >>> 24);
+		bytes[offset + 5] = (byte) (id >>> 16);
+		bytes[offset + 6] = (byte) (id >>> 8);
+		bytes[offset + 7] = (byte) (id >>> 0);
 
 		// flags
-		bytes[8] = getFlags();
+		bytes[offset + 8] = getFlags();
 
 		// convert specific header fields
-		int index = 9;
+		int index = offset + 9;
 		index += writeSpecificHeaderFields(bytes, index);
 
-		if (index < len && fDataBuf != null) {
+		if (fDataBuf != null) {
 			// copy data
 			System.arraycopy(fDataBuf, 0, bytes, index, fDataBuf.length);
 		}
-		return bytes;
+		return offset + len;
 	}
 
 	/**
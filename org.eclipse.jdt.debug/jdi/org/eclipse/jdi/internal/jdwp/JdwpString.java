@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.UTFDataFormatException;
+import java.nio.charset.StandardCharsets;
 
 /**
  * This class implements the corresponding Java Debug Wire Protocol (JDWP) ID
@@ -32,14 +33,35 @@ public class JdwpString {
 		int utfSize = in.readInt();
 		byte utfBytes[] = new byte[utfSize];
 		in.readFully(utfBytes);
+		return decode(utfBytes, 0, utfSize);
+	}
+
+	/**
+	 * Decodes the modified UTF-8 bytes in the given range of an array.
+	 */
+	static String decode(byte[] utfBytes, int offset, int utfSize) throws IOException {
+		int end = offset + utfSize;
+		// Most strings (signatures, names) are plain ASCII which needs no
+		// decoding
+		int i = offset;
+		while (i < end && utfBytes[i] > 0) {
+			i++;
+		}
+		if (i == end) {
+			return new String(utfBytes, offset, utfSize, StandardCharsets.ISO_8859_1);
+		}
 		/* Guess at buffer size */
 		StringBuilder strBuffer = new StringBuilder(utfSize / 3 * 2);
-		for (int i = 0; i < utfSize;) {
+		for (i = offset; i < end;) {
 			int a = utfBytes[i] & 0xFF;
 			if ((a >> 4) < 12) {
 				strBuffer.append((char) a);
 				i++;
 			} else {
+				if (i + 1 >= end) {
+					throw new UTFDataFormatException(
+							JDWPMessages.JdwpString_Input_does_not_match_UTF_Specification_3);
+				}
 				int b = utfBytes[i + 1] & 0xFF;
 				if ((a >> 4) < 14) {
 					if ((b & 0xBF) == 0) {
@@ -49,6 +71,10 @@ public class JdwpString {
 					strBuffer.append((char) (((a & 0x1F) << 6) | (b & 0x3F)));
 					i += 2;
 				} else {
+					if (i + 2 >= end) {
+						throw new UTFDataFormatException(
+								JDWPMessages.JdwpString_Input_does_not_match_UTF_Specification_3);
+					}
 					int c = utfBytes[i + 2] & 0xFF;
 					if ((a & 0xEF) > 0) {
 						if (((b & 0xBF) == 0) || ((c & 0xBF) == 0)) {
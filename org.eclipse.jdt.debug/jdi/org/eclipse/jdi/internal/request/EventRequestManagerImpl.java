@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -117,6 +117,12 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	private EventRequestType<MonitorWaitedRequest> MONITOR_WAITED_TYPE= new EventRequestType<>();
 	private EventRequestType<MonitorWaitRequest> MONITOR_WAIT_TYPE= new EventRequestType<>();
 
+	/** Whether the internal class prepare request has been enabled. */
+	private boolean fInternalClassPrepareEnabled = false;
+
+	/** Whether the internal class unload request has been enabled. */
+	private boolean fInternalClassUnloadEnabled = false;
+
 	/**
 	 * Creates new EventRequestManager.
 	 */
@@ -312,11 +318,15 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 
 	/**
 	 * Enables class prepare requests for all loaded classes.  This is
-	 * necessary for current versions of the KVM to function correctly.
-	 * This method is only called when the remote VM is determined to be
-	 * the KVM.
+	 * necessary for current versions of the KVM to function correctly,
+	 * and keeps the index of loaded types of the VM up to date.
+	 * The request is only enabled once.
 	 */
-	public void enableInternalClassPrepareEvent() {
+	public synchronized void enableInternalClassPrepareEvent() {
+		if (fInternalClassPrepareEnabled) {
+			return;
+		}
+		fInternalClassPrepareEnabled = true;
 		// Note that these requests are not stored in the set of outstanding requests because
 		// they must be invisible from outside.
 		ClassPrepareRequestImpl requestPrepare =
@@ -329,9 +339,14 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 
 	/**
 	 * Creates ClassUnloadRequest for maintaining class information for within JDI.
-	 * Needed to known when to flush the cache.
+	 * Needed to known when to flush the cache, and keeps the index of loaded
+	 * types of the VM up to date. The request is only enabled once.
 	 */
-	public void enableInternalClasUnloadEvent(/* TBD: ReferenceTypeImpl refType*/) {
+	public synchronized void enableInternalClasUnloadEvent(/* TBD: ReferenceTypeImpl refType*/) {
+		if (fInternalClassUnloadEnabled) {
+			return;
+		}
+		fInternalClassUnloadEnabled = true;
 		// Note that these requests are not stored in the set of outstanding requests because
 		// they must be invisible from outside.
 		ClassUnloadRequestImpl reqUnload = new ClassUnloadRequestImpl(virtualMachineImpl());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,17 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -31,12 +37,14 @@ import org.eclipse.jdi.internal.event.ExceptionEventImpl;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 
+import com.sun.jdi.ThreadReference;
 import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.VirtualMachine;
 import com.sun.jdi.event.Event;
 import com.sun.jdi.event.EventIterator;
 import com.sun.jdi.event.EventQueue;
 import com.sun.jdi.event.EventSet;
+import com.sun.jdi.event.LocatableEvent;
 import com.sun.jdi.event.ThreadDeathEvent;
 import com.sun.jdi.event.VMDeathEvent;
 import com.sun.jdi.event.VMDisconnectEvent;
@@ -60,6 +68,13 @@ import com.sun.jdi.request.EventRequest;
  * only resumed in if all event handlers agree that the thread should be
  * resumed.
  * </p>
+ * <p>
+ * Event sets which require expression evaluation are dispatched by jobs, so
+ * that the evaluations do not block the reading of further events. They are
+ * queued per thread: the event sets of one thread are dispatched in order,
+ * while those of different threads are dispatched concurrently by a bounded
+ * number of jobs.
+ * </p>
  */
 
 public class EventDispatcher implements Runnable {
@@ -73,9 +88,11 @@ public class EventDispatcher implements Runnable {
 	private volatile boolean fShutdown;
 	/**
 	 * Table of event listeners. Table is a mapping of <code>EventRequest</code>
-	 * to <code>IJDIEventListener</code>.
+	 * to <code>IJDIEventListener</code>. Listeners are added and removed by the
+	 * threads installing breakpoints and stepping while events are dispatched,
+	 * so the table is concurrent.
 	 */
-	private HashMap<EventRequest, IJDIEventListener> fEventHandlers;
+	private final Map<EventRequest, IJDIEventListener> fEventHandlers;
 
 	/**
 	 * Queue of debug model events to fire, created when processing events on
@@ -83,6 +100,70 @@ public class EventDispatcher implements Runnable {
 	 */
 	private Map<EventSet, List<DebugEvent>> fSetToQueue = new HashMap<>();
 
+	/**
+	 * Number of jobs dispatching event sets which require expression
+	 * evaluation, above which no more jobs are started unless the running
+	 * ones stall.
+	 */
+	private static final int MAX_DISPATCH_JOBS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * Number of jobs dispatching event sets which require expression
+	 * evaluation, above which no more jobs are started even if the running
+	 * ones stall.
+	 */
+	private static final int MAX_STALLED_DISPATCH_JOBS = MAX_DISPATCH_JOBS * 2;
+
+	/**
+	 * Number of pending event sets which require expression evaluation, above
+	 * which reading events from the VM is held back.
+	 */
+	private static final int MAX_PENDING_SETS = 256;
+
+	/**
+	 * Time in milliseconds after which the dispatch jobs are considered to
+	 * have stalled if none of them dispatched an event set, or after which
+	 * reading events is no longer held back.
+	 */
+	private static final long DISPATCH_TIMEOUT = 1000;
+
+	/**
+	 * Pending event sets which require expression evaluation, per thread, in
+	 * the order they have been received. Guards the fields below.
+	 */
+	private final Map<ThreadReference, Deque<EventSet>> fThreadQueues = new HashMap<>();
+
+	/**
+	 * Threads with pending event sets which are not being dispatched.
+	 */
+	private final Deque<ThreadReference> fReadyThreads = new ArrayDeque<>();
+
+	/**
+	 * Threads an event set is being dispatched for.
+	 */
+	private final Set<ThreadReference> fDispatchingThreads = new HashSet<>();
+
+	/**
+	 * Number of pending event sets in {@link #fThreadQueues}.
+	 */
+	private int fPendingSets = 0;
+
+	/**
+	 * Number of running dispatch jobs.
+	 */
+	private int fDispatchJobs = 0;
+
+	/**
+	 * Time a dispatch job last completed an event set or was started.
+	 */
+	private long fLastDispatchProgress = 0;
+
+	/**
+	 * Number of events received from the VM, only updated by the thread
+	 * running this dispatcher.
+	 */
+	private volatile long fReceivedEventCount = 0;
+
 	/**
 	 * Constructs a new event dispatcher listening for events originating from
 	 * the specified debug target's underlying VM.
@@ -91,7 +172,7 @@ public class EventDispatcher implements Runnable {
 	 *            the target this event dispatcher belongs to
 	 */
 	public EventDispatcher(JDIDebugTarget target) {
-		fEventHandlers = new HashMap<>(10);
+		fEventHandlers = new ConcurrentHashMap<>(16);
 		fTarget = target;
 		fShutdown = false;
 	}
@@ -134,7 +215,7 @@ public class EventDispatcher implements Runnable {
 				continue;
 			}
 			// Dispatch events to registered listeners, if any
-			IJDIEventListener listener = fEventHandlers.get(event.request());
+			IJDIEventListener listener = getListener(event);
 			listeners[index] = listener;
 			if (listener != null) {
 				if (listener instanceof IJavaLineBreakpoint) {
@@ -192,8 +273,7 @@ public class EventDispatcher implements Runnable {
 					continue;
 				}
 				// Dispatch events to registered listeners, if any
-				IJDIEventListener listener = fEventHandlers
-						.get(event.request());
+				IJDIEventListener listener = getListener(event);
 				if (listener != null) {
 					vote = true;
 					try {
@@ -256,7 +336,7 @@ public class EventDispatcher implements Runnable {
 			if (event == null) {
 				continue;
 			}
-			IJDIEventListener listener = fEventHandlers.get(event.request());
+			IJDIEventListener listener = getListener(event);
 			if (listener instanceof IJavaLineBreakpoint) {
 				try {
 					if (((IJavaLineBreakpoint) listener).isConditionEnabled()) {
@@ -316,21 +396,15 @@ public class EventDispatcher implements Runnable {
 					}
 
 					if (eventSet != null) {
+						fReceivedEventCount += eventSet.size();
 						if (!requiresExpressionEvaluation(eventSet)) {
 							dispatch(eventSet);
 						} else {
 							// 269231 always evaluate expressions in a separate job to avoid deadlocks
-							Job job = new AbstractDispatchJob("JDI Expression Evaluation Event Dispatch") { //$NON-NLS-1$
-								@Override
-								protected IStatus run(IProgressMonitor monitor) {
-									dispatch(eventSet);
-									return Status.OK_STATUS;
-								}
-							};
-							job.setSystem(true);
-							job.schedule();
+							queueEvaluationDispatch(eventSet);
 						}
 					}
+					checkDispatchJobs();
 				} catch (InterruptedException e) {
 					break;
 				}
@@ -338,6 +412,133 @@ public class EventDispatcher implements Runnable {
 		}
 	}
 
+	/**
+	 * Queues the given event set, which requires expression evaluation, to be
+	 * dispatched by a job after the event sets received before for the same
+	 * thread. Holds back the caller while there are too many pending event
+	 * sets.
+	 *
+	 * @param eventSet
+	 *            events to dispatch
+	 * @throws InterruptedException
+	 *             if interrupted while held back
+	 */
+	private void queueEvaluationDispatch(EventSet eventSet) throws InterruptedException {
+		ThreadReference thread = null;
+		EventIterator iter = eventSet.eventIterator();
+		while (thread == null && iter.hasNext()) {
+			Event event = iter.nextEvent();
+			if (event instanceof LocatableEvent) {
+				thread = ((LocatableEvent) event).thread();
+			}
+		}
+		synchronized (fThreadQueues) {
+			if (thread == null || fDispatchingThreads.contains(thread)) {
+				// The thread has been resumed by an evaluation while its
+				// previous event set is dispatched: the evaluation may wait for
+				// this event set, so it is dispatched right away.
+				scheduleDispatchJob(eventSet);
+				return;
+			}
+			long deadline = System.currentTimeMillis() + DISPATCH_TIMEOUT;
+			long wait;
+			while (fPendingSets >= MAX_PENDING_SETS && !isShutdown() && (wait = deadline - System.currentTimeMillis()) > 0) {
+				fThreadQueues.wait(wait);
+			}
+			Deque<EventSet> queue = fThreadQueues.get(thread);
+			if (queue == null) {
+				queue = new ArrayDeque<>(2);
+				fThreadQueues.put(thread, queue);
+			}
+			queue.add(eventSet);
+			fPendingSets++;
+			if (queue.size() == 1) {
+				fReadyThreads.add(thread);
+			}
+			if (fDispatchJobs < MAX_DISPATCH_JOBS) {
+				startDispatchJob();
+			}
+		}
+	}
+
+	/**
+	 * Starts another dispatch job if event sets are pending while the running
+	 * jobs have not made any progress for a while, for example because their
+	 * evaluations wait for threads whose event sets are pending. At most
+	 * {@link #MAX_STALLED_DISPATCH_JOBS} jobs are running at once.
+	 */
+	private void checkDispatchJobs() {
+		synchronized (fThreadQueues) {
+			if (!fReadyThreads.isEmpty() && fDispatchJobs < MAX_STALLED_DISPATCH_JOBS
+					&& System.currentTimeMillis() - fLastDispatchProgress > DISPATCH_TIMEOUT) {
+				startDispatchJob();
+			}
+		}
+	}
+
+	/**
+	 * Starts a job dispatching the pending event sets of the ready threads
+	 * until there are none left. Must be called holding the lock on
+	 * {@link #fThreadQueues}.
+	 */
+	private void startDispatchJob() {
+		fDispatchJobs++;
+		fLastDispatchProgress = System.currentTimeMillis();
+		Job job = new AbstractDispatchJob("JDI Expression Evaluation Event Dispatch") { //$NON-NLS-1$
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				while (true) {
+					ThreadReference thread;
+					EventSet eventSet;
+					synchronized (fThreadQueues) {
+						thread = fReadyThreads.poll();
+						if (thread == null || isShutdown()) {
+							fDispatchJobs--;
+							return Status.OK_STATUS;
+						}
+						eventSet = fThreadQueues.get(thread).poll();
+						fPendingSets--;
+						fDispatchingThreads.add(thread);
+						fThreadQueues.notifyAll();
+					}
+					try {
+						dispatch(eventSet);
+					} finally {
+						synchronized (fThreadQueues) {
+							fDispatchingThreads.remove(thread);
+							fLastDispatchProgress = System.currentTimeMillis();
+							if (fThreadQueues.get(thread).isEmpty()) {
+								fThreadQueues.remove(thread);
+							} else {
+								fReadyThreads.add(thread);
+							}
+						}
+					}
+				}
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+	}
+
+	/**
+	 * Schedules a job dispatching the given event set on its own.
+	 *
+	 * @param eventSet
+	 *            events to dispatch
+	 */
+	private void scheduleDispatchJob(EventSet eventSet) {
+		Job job = new AbstractDispatchJob("JDI Expression Evaluation Event Dispatch") { //$NON-NLS-1$
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				dispatch(eventSet);
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+	}
+
 	/**
 	 * Shutdown this event dispatcher - i.e. causes this event dispatcher to
 	 * stop reading and dispatching events from the event queue. The thread
@@ -345,6 +546,9 @@ public class EventDispatcher implements Runnable {
 	 */
 	public void shutdown() {
 		fShutdown = true;
+		synchronized (fThreadQueues) {
+			fThreadQueues.notifyAll();
+		}
 		Job.getJobManager().cancel(this);
 	}
 
@@ -370,7 +574,9 @@ public class EventDispatcher implements Runnable {
 	 */
 	public void addJDIEventListener(IJDIEventListener listener,
 			EventRequest request) {
-		fEventHandlers.put(request, listener);
+		if (request != null && listener != null) {
+			fEventHandlers.put(request, listener);
+		}
 	}
 
 	/**
@@ -384,7 +590,71 @@ public class EventDispatcher implements Runnable {
 	 *            the event request to de-register
 	 */
 	public void removeJDIEventListener(IJDIEventListener listener, EventRequest request) {
-		fEventHandlers.remove(request);
+		if (request != null) {
+			fEventHandlers.remove(request);
+		}
+	}
+
+	/**
+	 * Returns the listener registered with the request of the given event, or
+	 * <code>null</code> if none. The request of an event is resolved from its
+	 * JDWP request id when the event is read, and requests hash by identity, so
+	 * the lookup does not allocate.
+	 *
+	 * @param event
+	 *            the event to find the listener of
+	 * @return the listener registered with the request of the event or
+	 *         <code>null</code>
+	 */
+	private IJDIEventListener getListener(Event event) {
+		EventRequest request = event.request();
+		if (request == null) {
+			// events which have not been requested, like VM start
+			return null;
+		}
+		return fEventHandlers.get(request);
+	}
+
+	/**
+	 * Returns the number of registered listeners per kind of event request,
+	 * keyed by the simple name of the JDI request interface, for example
+	 * <code>BreakpointRequest</code>.
+	 *
+	 * @return the number of registered listeners per kind of event request
+	 * @noreference public for diagnostic and test purposes
+	 */
+	public Map<String, Integer> getHandlerCounts() {
+		Map<String, Integer> counts = new TreeMap<>();
+		for (EventRequest request : fEventHandlers.keySet()) {
+			counts.merge(getRequestKind(request), Integer.valueOf(1), Integer::sum);
+		}
+		return counts;
+	}
+
+	/**
+	 * Returns the number of events received from the VM so far, including
+	 * events that are filtered out by their listener.
+	 *
+	 * @return the number of events received from the VM
+	 * @noreference public for diagnostic and test purposes
+	 */
+	public long getReceivedEventCount() {
+		return fReceivedEventCount;
+	}
+
+	/**
+	 * Returns the simple name of the JDI request interface implemented by the
+	 * given request.
+	 */
+	private static String getRequestKind(EventRequest request) {
+		for (Class<?> type = request.getClass(); type != null; type = type.getSuperclass()) {
+			for (Class<?> face : type.getInterfaces()) {
+				if (face != EventRequest.class && EventRequest.class.isAssignableFrom(face)) {
+					return face.getSimpleName();
+				}
+			}
+		}
+		return request.getClass().getSimpleName();
 	}
 
 	/**
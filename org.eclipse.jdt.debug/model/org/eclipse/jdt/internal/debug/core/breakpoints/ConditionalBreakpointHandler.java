@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2020 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -233,16 +233,17 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 					return SUSPEND;
 				}
 				ICompiledExpression expression = lineBreakpoint
-						.getExpression(thread);
+						.getExpression(condition, project, frame);
 				if (expression == null) {
 					expression = engine.getCompiledExpression(condition, frame);
-					lineBreakpoint.setExpression(thread, expression);
 				}
 				if (expression.hasErrors()) {
+					lineBreakpoint.releaseExpression(condition, project, frame, expression);
 					fireConditionHasErrors(lineBreakpoint,
 							getMessages(expression));
 					return SUSPEND;
 				}
+				// the expression is this thread's own until it is released
 				Object lock = listener.getLock();
 				synchronized (lock) {
 					engine.evaluateExpression(expression, frame, listener,
@@ -251,6 +252,8 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 					try {
 						lock.wait();
 					} catch (InterruptedException e) {
+						// the evaluation may still be running, do not reuse
+						// the expression
 						fireConditionHasRuntimeErrors(
 								lineBreakpoint,
 								new DebugException(
@@ -263,6 +266,7 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 						return SUSPEND;
 					}
 				}
+				lineBreakpoint.releaseExpression(condition, project, frame, expression);
 				return listener.getVote();
 			} catch (CoreException e) {
 				DebugException de = null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,11 +17,17 @@ package org.eclipse.jdt.internal.debug.core.breakpoints;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
@@ -36,6 +42,7 @@ import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.jdi.internal.AccessibleImpl;
+import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
@@ -47,6 +54,7 @@ import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIStackFrame;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.jdt.internal.debug.core.model.LambdaUtils;
 
 import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.ClassNotPreparedException;
@@ -101,10 +109,102 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	private Map<IJavaThread, ICompiledExpression> fSuspendEvents = new HashMap<>();
 	/**
 	 * The map of cached compiled expressions (ICompiledExpression) for this
-	 * breakpoint, keyed by thread. This value must be cleared every time the
-	 * breakpoint is added to a target.
+	 * breakpoint, keyed by the context they have been compiled in, so that
+	 * threads hitting the breakpoint at the same place reuse the compilation
+	 * of the condition. A compiled expression holds state while it is
+	 * evaluated, so each evaluation borrows its own instance from a small
+	 * pool. This value must be cleared every time the breakpoint is added to
+	 * a target.
 	 */
-	private Map<IJavaThread, ICompiledExpression> fCompiledExpressions = new HashMap<>();
+	private Map<CompiledExpressionKey, CompiledExpression> fCompiledExpressions = new ConcurrentHashMap<>();
+
+	/**
+	 * The context a condition is compiled in: the condition, the project
+	 * providing the classpath, and the shape of the stack frame the
+	 * breakpoint is hit in. Conditions hit in lambda frames are also compiled
+	 * against the variables of the enclosing frames, so those are not shared
+	 * between threads.
+	 */
+	private static final class CompiledExpressionKey {
+		private final String fCondition;
+		private final IJavaProject fProject;
+		private final IDebugTarget fTarget;
+		private final IJavaThread fThread;
+		private final String fDeclaringTypeName;
+		private final String fReceivingTypeName;
+		private final String fMethodName;
+		private final String fMethodSignature;
+		private final boolean fStatic;
+		private final int fLineNumber;
+
+		CompiledExpressionKey(String condition, IJavaProject project, IJavaStackFrame frame) throws CoreException {
+			fCondition = condition;
+			fProject = project;
+			fTarget = frame.getDebugTarget();
+			fThread = LambdaUtils.isLambdaFrame(frame) ? (IJavaThread) frame.getThread() : null;
+			fDeclaringTypeName = frame.getDeclaringTypeName();
+			fReceivingTypeName = frame.getReferenceType().getName();
+			fMethodName = frame.getMethodName();
+			fMethodSignature = frame.getSignature();
+			fStatic = frame.isStatic();
+			fLineNumber = frame.getLineNumber();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof CompiledExpressionKey)) {
+				return false;
+			}
+			CompiledExpressionKey other = (CompiledExpressionKey) obj;
+			return fCondition.equals(other.fCondition) && fProject.equals(other.fProject)
+					&& fTarget == other.fTarget && fThread == other.fThread
+					&& fStatic == other.fStatic && fLineNumber == other.fLineNumber
+					&& Objects.equals(fDeclaringTypeName, other.fDeclaringTypeName)
+					&& Objects.equals(fReceivingTypeName, other.fReceivingTypeName)
+					&& Objects.equals(fMethodName, other.fMethodName)
+					&& Objects.equals(fMethodSignature, other.fMethodSignature);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fCondition, fProject, fDeclaringTypeName, fMethodName, Integer.valueOf(fLineNumber));
+		}
+	}
+
+	/**
+	 * Maximum number of idle compiled expressions kept per context.
+	 */
+	private static final int MAX_IDLE_EXPRESSIONS = 4;
+
+	/**
+	 * Idle instances of a compiled expression, with the classpath they have
+	 * been compiled against.
+	 */
+	private static final class CompiledExpression {
+		final Queue<ICompiledExpression> fIdle = new ConcurrentLinkedQueue<>();
+		final AtomicInteger fIdleCount = new AtomicInteger();
+		final IClasspathEntry[] fClasspath;
+
+		CompiledExpression(IClasspathEntry[] classpath) {
+			fClasspath = classpath;
+		}
+
+		ICompiledExpression borrow() {
+			ICompiledExpression expression = fIdle.poll();
+			if (expression != null) {
+				fIdleCount.decrementAndGet();
+			}
+			return expression;
+		}
+
+		void release(ICompiledExpression expression) {
+			if (fIdleCount.incrementAndGet() <= MAX_IDLE_EXPRESSIONS) {
+				fIdle.add(expression);
+			} else {
+				fIdleCount.decrementAndGet();
+			}
+		}
+	}
 
 	/**
 	 * Cache of projects for stack frames to avoid repetitive project resolution
@@ -218,7 +318,7 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	 * threads in the given target.
 	 */
 	protected void clearCachedExpressionFor(JDIDebugTarget target) {
-		removeCachedThreads(fCompiledExpressions, target);
+		fCompiledExpressions.keySet().removeIf(key -> key.fTarget == target);
 
 		// clean up cached projects for stack frames
 		synchronized (fProjectsByFrame) {
@@ -590,7 +690,7 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	@Override
 	protected void cleanupForThreadTermination(JDIThread thread) {
 		fSuspendEvents.remove(thread);
-		fCompiledExpressions.remove(thread);
+		fCompiledExpressions.keySet().removeIf(key -> key.fThread == thread);
 		super.cleanupForThreadTermination(thread);
 	}
 
@@ -639,28 +739,59 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	}
 
 	/**
-	 * Returns existing compiled expression for the given thread or
-	 * <code>null</code>.
+	 * Returns an idle compiled expression for the given condition in the given
+	 * frame or <code>null</code>. The expression is not handed out again until
+	 * it is released with
+	 * {@link #releaseExpression(String, IJavaProject, IJavaStackFrame, ICompiledExpression)}
+	 * after it has been evaluated. Expressions are reused by all threads
+	 * hitting this breakpoint in the same context, until the classpath of the
+	 * project changes.
 	 *
-	 * @param thread
-	 *            thread the breakpoint was hit in
+	 * @param condition
+	 *            the condition of this breakpoint
+	 * @param project
+	 *            project the condition is compiled in
+	 * @param frame
+	 *            stack frame the breakpoint was hit in
 	 * @return compiled expression or <code>null</code>
-	 */
-	protected ICompiledExpression getExpression(IJavaThread thread) {
-		return fCompiledExpressions.get(thread);
+	 * @throws CoreException
+	 *             if the context of the frame cannot be determined
+	 */
+	protected ICompiledExpression getExpression(String condition,
+			IJavaProject project, IJavaStackFrame frame) throws CoreException {
+		CompiledExpressionKey key = new CompiledExpressionKey(condition, project, frame);
+		CompiledExpression compiled = fCompiledExpressions.get(key);
+		if (compiled == null) {
+			return null;
+		}
+		if (!Arrays.equals(compiled.fClasspath, project.getResolvedClasspath(true))) {
+			fCompiledExpressions.remove(key, compiled);
+			return null;
+		}
+		return compiled.borrow();
 	}
 
 	/**
-	 * Sets the compiled expression for a thread.
+	 * Releases the compiled expression for the given condition in the given
+	 * frame once it has been evaluated, so that it can be reused.
 	 *
-	 * @param thread
-	 *            thread the breakpoint was hit in
+	 * @param condition
+	 *            the condition of this breakpoint
+	 * @param project
+	 *            project the condition was compiled in
+	 * @param frame
+	 *            stack frame the breakpoint was hit in
 	 * @param expression
 	 *            associated compiled expression
-	 */
-	protected void setExpression(IJavaThread thread,
-			ICompiledExpression expression) {
-		fCompiledExpressions.put(thread, expression);
+	 * @throws CoreException
+	 *             if the context of the frame cannot be determined
+	 */
+	protected void releaseExpression(String condition, IJavaProject project,
+			IJavaStackFrame frame, ICompiledExpression expression) throws CoreException {
+		IClasspathEntry[] classpath = project.getResolvedClasspath(true);
+		CompiledExpression compiled = fCompiledExpressions.compute(new CompiledExpressionKey(condition, project, frame),
+				(key, value) -> value != null && Arrays.equals(value.fClasspath, classpath) ? value : new CompiledExpression(classpath));
+		compiled.release(expression);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,7 +34,6 @@ import org.eclipse.jdt.internal.debug.core.model.LambdaUtils;
 import org.eclipse.jdt.internal.debug.core.model.MethodResult;
 import org.eclipse.jdt.internal.debug.core.model.MethodResult.ResultType;
 
-import com.sun.jdi.ClassType;
 import com.sun.jdi.Location;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectReference;
@@ -284,21 +283,11 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 		if (manager != null) {
 			try {
 				if (entry) {
-					if (classFilter instanceof ClassType && getMethodName() != null
-							&& getMethodSignature() != null) {
+					if (classFilter instanceof ReferenceType) {
 						// use a line breakpoint if possible for better performance
-						ClassType clazz = (ClassType) classFilter;
-						if (clazz.name().equals(getTypeName())) {
-							// only use line breakpoint when there is an exact match
-							Method method = clazz.concreteMethodByName(
-									getMethodName(), getMethodSignature());
-							if (method != null && !method.isNative()) {
-								Location location = method.location();
-								if (location != null && location.codeIndex() != -1) {
-									request = manager
-											.createBreakpointRequest(location);
-								}
-							}
+						Location location = getEntryLocation((ReferenceType) classFilter);
+						if (location != null) {
+							request = manager.createBreakpointRequest(location);
 						}
 					}
 					if (request == null) {
@@ -338,6 +327,52 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 		return null;
 	}
 
+	/**
+	 * Returns the location of the first instruction of the method this
+	 * breakpoint is set on when the given type declares it, or
+	 * <code>null</code> if there is no such method or it has no code. A
+	 * breakpoint request at this location is only hit when the method is
+	 * entered, whereas a method entry request is hit when any method of the
+	 * type is entered and the event filtered by this breakpoint.
+	 *
+	 * @param type
+	 *            the type in which to find the method
+	 * @return the location of the first instruction of the method or
+	 *         <code>null</code>
+	 * @exception CoreException
+	 *                if an exception occurs accessing this breakpoint's
+	 *                underlying marker
+	 */
+	private Location getEntryLocation(ReferenceType type) throws CoreException {
+		String methodName = getMethodName();
+		String methodSignature = getMethodSignature();
+		if (methodName == null || methodSignature == null || isNativeOnly()
+				|| !type.name().equals(getTypeName())) {
+			// only use line breakpoint when there is an exact match
+			return null;
+		}
+		for (Method method : type.methodsByName(methodName)) {
+			if (!type.equals(method.declaringType())) {
+				// inherited methods are not entered in the given type
+				continue;
+			}
+			// signatures of inner types may be stored with '.' rather than '$'
+			String sig = method.signature();
+			if (sig.equals(methodSignature)
+					|| sig.replace('$', '.').equals(methodSignature)) {
+				if (method.isNative() || method.isAbstract()) {
+					return null;
+				}
+				Location location = method.location();
+				if (location != null && location.codeIndex() != -1) {
+					return location;
+				}
+				return null;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * @see JavaBreakpoint#setRequestThreadFilter(EventRequest)
 	 */
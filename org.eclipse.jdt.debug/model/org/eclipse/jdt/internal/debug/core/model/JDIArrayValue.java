@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,13 +15,15 @@ package org.eclipse.jdt.internal.debug.core.model;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IIndexedValue;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaArray;
+import org.eclipse.jdi.internal.ArrayReferenceImpl;
 import org.eclipse.jdt.debug.core.IJavaValue;
 
 import com.sun.jdi.ArrayReference;
@@ -34,6 +36,27 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 
 	private int fLength = -1;
 
+	/**
+	 * Number of components retrieved from the VM at once.
+	 */
+	private static final int CHUNK_SIZE = 1000;
+
+	/**
+	 * Maximum number of chunks kept in {@link #fChunks}.
+	 */
+	private static final int MAX_CHUNKS = 16;
+
+	/**
+	 * Recently used chunks of components by chunk index, least recently used
+	 * first, or <code>null</code> if none has been retrieved. Chunks are only
+	 * kept while all threads of the debug target are suspended, and are valid
+	 * for the suspend count and modification count of the debug target at the
+	 * time they were retrieved, since resuming a thread increments the latter.
+	 */
+	private Map<Integer, List<Value>> fChunks;
+	private int fChunksSuspendCount = -1;
+	private int fChunksModificationCount = -1;
+
 	/**
 	 * Constructs a value which is a reference to an array.
 	 *
@@ -51,14 +74,36 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 	 */
 	@Override
 	public IJavaValue[] getValues() throws DebugException {
-		List<Value> list = getUnderlyingValues();
+		return getValues(0, getLength());
+	}
 
-		int count = list.size();
-		IJavaValue[] values = new IJavaValue[count];
+	/**
+	 * Returns a range of the components of this array, retrieved from the VM
+	 * in a single request. The components are not kept, so reading a large
+	 * array does not evict the chunks used by the variables view.
+	 *
+	 * @param offset
+	 *            the index of the first component
+	 * @param length
+	 *            the number of components
+	 * @return the components in the range
+	 * @exception DebugException
+	 *                if this method fails. Reasons include:
+	 *                <ul>
+	 *                <li>Failure communicating with the VM. The
+	 *                DebugException's status code contains the underlying
+	 *                exception responsible for the failure.</li>
+	 *                </ul>
+	 */
+	public IJavaValue[] getValues(int offset, int length) throws DebugException {
+		if (length == 0) {
+			return new IJavaValue[0];
+		}
+		List<Value> list = getUnderlyingValues(offset, length);
+		IJavaValue[] values = new IJavaValue[list.size()];
 		JDIDebugTarget target = (JDIDebugTarget) getDebugTarget();
-		for (int i = 0; i < count; i++) {
-			Value value = list.get(i);
-			values[i] = JDIValue.createValue(target, value);
+		for (int i = 0; i < values.length; i++) {
+			values[i] = JDIValue.createValue(target, list.get(i));
 		}
 		return values;
 	}
@@ -72,6 +117,48 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		return JDIValue.createValue((JDIDebugTarget) getDebugTarget(), v);
 	}
 
+	/**
+	 * Returns a range of the components of this array if its component type
+	 * is primitive, as a Java array of that type. No value is created per
+	 * component.
+	 *
+	 * @param offset
+	 *            the index of the first component
+	 * @param length
+	 *            the number of components
+	 * @return a <code>boolean[]</code>, <code>byte[]</code>,
+	 *         <code>char[]</code>, <code>short[]</code>, <code>int[]</code>,
+	 *         <code>long[]</code>, <code>float[]</code> or
+	 *         <code>double[]</code>, or <code>null</code> if the components
+	 *         of this array are objects or cannot be retrieved in bulk
+	 * @exception DebugException
+	 *                if this method fails. Reasons include:
+	 *                <ul>
+	 *                <li>Failure communicating with the VM. The
+	 *                DebugException's status code contains the underlying
+	 *                exception responsible for the failure.</li>
+	 *                </ul>
+	 */
+	public Object getPrimitiveValues(int offset, int length) throws DebugException {
+		ArrayReference array = getArrayReference();
+		if (!(array instanceof ArrayReferenceImpl)) {
+			return null;
+		}
+		try {
+			return ((ArrayReferenceImpl) array).getPrimitiveValues(offset, length);
+		} catch (IndexOutOfBoundsException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			targetRequestFailed(
+					MessageFormat.format(
+							JDIDebugModelMessages.JDIArrayValue_exception_while_retrieving_values_from_array,
+							e.toString()), e);
+		}
+		// execution will not reach this line as
+		// an exception will be thrown
+		return null;
+	}
+
 	/**
 	 * @see IJavaArray#getLength()
 	 */
@@ -98,6 +185,7 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		try {
 			getArrayReference().setValue(index,
 					((JDIValue) value).getUnderlyingValue());
+			getJavaDebugTarget().incrementModificationCount();
 		} catch (IndexOutOfBoundsException e) {
 			throw e;
 		} catch (InvalidTypeException e) {
@@ -160,8 +248,54 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 	}
 
 	/**
-	 * Returns the underlying values from the underlying array reference.
+	 * Returns a chunk of the underlying values from the underlying array
+	 * reference, to be called only while all threads of the target are
+	 * suspended. Chunks are retrieved on demand, and the most recently used
+	 * ones are kept until a thread resumes or a variable is modified.
+	 *
+	 * @param chunkIndex
+	 *            the index of the chunk, the chunk holding the components
+	 *            from <code>chunkIndex * CHUNK_SIZE</code>
+	 * @return list of values
+	 * @exception DebugException
+	 *                if this method fails. Reasons include:
+	 *                <ul>
+	 *                <li>Failure communicating with the VM. The
+	 *                DebugException's status code contains the underlying
+	 *                exception responsible for the failure.</li>
+	 *                </ul>
+	 */
+	@SuppressWarnings("serial")
+	private synchronized List<Value> getChunk(int chunkIndex) throws DebugException {
+		JDIDebugTarget target = getJavaDebugTarget();
+		if (fChunks == null || fChunksSuspendCount != target.getSuspendCount()
+				|| fChunksModificationCount != target.getModificationCount()) {
+			fChunks = new LinkedHashMap<>(MAX_CHUNKS, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Integer, List<Value>> eldest) {
+					return size() > MAX_CHUNKS;
+				}
+			};
+			fChunksSuspendCount = target.getSuspendCount();
+			fChunksModificationCount = target.getModificationCount();
+		}
+		List<Value> chunk = fChunks.get(Integer.valueOf(chunkIndex));
+		if (chunk == null) {
+			int offset = chunkIndex * CHUNK_SIZE;
+			chunk = getUnderlyingValues(offset, Math.min(CHUNK_SIZE, getLength() - offset));
+			fChunks.put(Integer.valueOf(chunkIndex), chunk);
+		}
+		return chunk;
+	}
+
+	/**
+	 * Returns a range of the underlying values from the underlying array
+	 * reference, retrieved in a single request.
 	 *
+	 * @param offset
+	 *            the index of the first component
+	 * @param length
+	 *            the number of components
 	 * @return list of values
 	 * @exception DebugException
 	 *                if this method fails. Reasons include:
@@ -171,11 +305,11 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 	 *                exception responsible for the failure.</li>
 	 *                </ul>
 	 */
-	protected List<Value> getUnderlyingValues() throws DebugException {
+	private List<Value> getUnderlyingValues(int offset, int length) throws DebugException {
 		try {
-			return getArrayReference().getValues();
+			return getArrayReference().getValues(offset, length);
 		} catch (IndexOutOfBoundsException e) {
-			return Collections.EMPTY_LIST;
+			throw e;
 		} catch (RuntimeException e) {
 			targetRequestFailed(
 					MessageFormat.format(
@@ -187,6 +321,21 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		return null;
 	}
 
+	/**
+	 * Returns the number of chunks of components currently kept.
+	 *
+	 * @return the number of chunks kept
+	 * @noreference public for test purposes
+	 */
+	public synchronized int getChunkCount() {
+		JDIDebugTarget target = getJavaDebugTarget();
+		if (fChunks == null || fChunksSuspendCount != target.getSuspendCount()
+				|| fChunksModificationCount != target.getModificationCount()) {
+			return 0;
+		}
+		return fChunks.size();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -226,10 +375,20 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 			requestFailed(JDIDebugModelMessages.JDIArrayValue_8, new IndexOutOfBoundsException(Integer.toString(offset + length - 1)));
 		}
 		IVariable[] variables = new IVariable[length];
+		// while threads run, the components may change at any time, so only
+		// the requested range is retrieved and nothing is kept
+		boolean chunked = getJavaDebugTarget().areAllThreadsSuspended();
+		List<Value> values = chunked ? null : getUnderlyingValues(offset, length);
 		int index = offset;
 		for (int i = 0; i < length; i++) {
-			variables[i] = new JDIArrayEntryVariable(getJavaDebugTarget(),
+			JDIArrayEntryVariable variable = new JDIArrayEntryVariable(getJavaDebugTarget(),
 					getArrayReference(), index, fLogicalParent);
+			if (chunked) {
+				variable.setPrefetchedValue(getChunk(index / CHUNK_SIZE).get(index % CHUNK_SIZE));
+			} else {
+				variable.setPrefetchedValue(values.get(i));
+			}
+			variables[i] = variable;
 			index++;
 		}
 		return variables;
@@ -270,6 +429,7 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 				list.add(((JDIValue) value).getUnderlyingValue());
 			}
 			getArrayReference().setValues(offset, list, startOffset, length);
+			getJavaDebugTarget().incrementModificationCount();
 		} catch (IndexOutOfBoundsException e) {
 			throw e;
 		} catch (InvalidTypeException e) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -65,6 +65,7 @@ import org.eclipse.debug.core.model.ISuspendResume;
 import org.eclipse.debug.core.model.IThread;
 import org.eclipse.jdi.TimeoutException;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.connect.PacketSendManager;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaElement;
@@ -239,6 +240,12 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private int fSuspendCount;
 
+	/**
+	 * Count of the number of variable modifications, method invocations and
+	 * evaluations in this target
+	 */
+	private volatile int fModificationCount;
+
 	/**
 	 * Evaluation engine cache by Java project. Engines are disposed when this
 	 * target terminates.
@@ -1731,6 +1738,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 * Notifies threads that they have been suspended
 	 */
 	protected void suspendThreads() {
+		requestThreadSnapshot();
 		Iterator<JDIThread> threads = getThreadIterator();
 		while (threads.hasNext()) {
 			JDIThread thread = threads.next();
@@ -1740,6 +1748,59 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		}
 	}
 
+	/**
+	 * Has the state of all threads of the suspended VM retrieved in a single
+	 * burst of requests when it is first queried, so that the threads read
+	 * their name, status and frame count from the snapshot rather than each
+	 * querying the VM. The snapshot is discarded by the VM when a thread
+	 * resumes.
+	 */
+	private void requestThreadSnapshot() {
+		VirtualMachine vm = getVM();
+		if (vm instanceof VirtualMachineImpl) {
+			((VirtualMachineImpl) vm).requestThreadSnapshot();
+		}
+	}
+
+	/**
+	 * Scope in which the requests of the calling thread are sent to the VM with
+	 * background priority, see {@link #backgroundPriority()}.
+	 */
+	public static final class BackgroundPriority implements AutoCloseable {
+		private final int fPrevious;
+
+		private BackgroundPriority() {
+			fPrevious = PacketSendManager.setThreadPriority(PacketSendManager.PRIORITY_BACKGROUND);
+		}
+
+		/**
+		 * Restores the priority the calling thread had before the scope was
+		 * entered.
+		 */
+		@Override
+		public void close() {
+			PacketSendManager.setThreadPriority(fPrevious);
+		}
+	}
+
+	/**
+	 * Enters a scope in which the requests of the calling thread are sent
+	 * after the commands and requests the user is waiting for, and at a
+	 * limited rate. Intended for decorations and other secondary information
+	 * retrieved while the user steps:
+	 *
+	 * <pre>
+	 * try (BackgroundPriority scope = JDIDebugTarget.backgroundPriority()) {
+	 * 	...
+	 * }
+	 * </pre>
+	 *
+	 * @return the scope, which must be closed by the thread that entered it
+	 */
+	public static BackgroundPriority backgroundPriority() {
+		return new BackgroundPriority();
+	}
+
 	/**
 	 * Notifies threads that they have been resumed
 	 */
@@ -2848,6 +2909,45 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		}
 	}
 
+	/**
+	 * Returns the number of variable modifications that have occurred in this
+	 * target.
+	 *
+	 * @return the number of variable modifications that have occurred in this
+	 *         target
+	 */
+	protected int getModificationCount() {
+		return fModificationCount;
+	}
+
+	/**
+	 * Increments the modification counter for this target, invalidating the
+	 * variable values that were prefetched for the current suspend event.
+	 * Called when a variable is modified, when a thread resumes and when a
+	 * method invocation or an evaluation completes, since neither resuming a
+	 * single thread nor implicit evaluations increment the suspend count.
+	 */
+	protected void incrementModificationCount() {
+		fModificationCount++;
+	}
+
+	/**
+	 * Returns whether all threads of this target are suspended, in which case
+	 * values read from the VM cannot change until a thread resumes.
+	 *
+	 * @return whether all threads of this target are suspended
+	 */
+	protected boolean areAllThreadsSuspended() {
+		synchronized (fThreads) {
+			for (JDIThread thread : fThreads) {
+				if (!thread.isSuspended()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Returns an evaluation engine for the given project, creating one if
 	 * necessary.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,9 @@
 package org.eclipse.jdt.internal.debug.core.model;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
@@ -87,6 +90,52 @@ public class JDIFieldVariable extends JDIModificationVariable implements
 		fType = refType;
 	}
 
+	/**
+	 * Retrieves the values of the field variables in the given list with a
+	 * single request and seeds the variables with them. Other variables in the
+	 * list are ignored.
+	 *
+	 * @param variables
+	 *            the variables to retrieve values for
+	 * @param object
+	 *            the object containing the fields, or <code>null</code> if the
+	 *            fields are static
+	 * @param type
+	 *            the type containing the static fields, used when no object
+	 *            is given
+	 */
+	static void prefetchValues(List<IJavaVariable> variables,
+			ObjectReference object, ReferenceType type) {
+		List<JDIFieldVariable> fieldVariables = new ArrayList<>();
+		List<Field> fields = new ArrayList<>();
+		for (IJavaVariable variable : variables) {
+			if (variable instanceof JDIFieldVariable) {
+				JDIFieldVariable fieldVariable = (JDIFieldVariable) variable;
+				fieldVariables.add(fieldVariable);
+				fields.add(fieldVariable.getField());
+			}
+		}
+		if (fields.isEmpty()) {
+			return;
+		}
+		Map<Field, Value> values;
+		try {
+			if (object != null) {
+				values = object.getValues(fields);
+			} else {
+				values = type.getValues(fields);
+			}
+		} catch (RuntimeException e) {
+			// the values will be retrieved one at a time when accessed
+			return;
+		}
+		for (JDIFieldVariable fieldVariable : fieldVariables) {
+			if (values.containsKey(fieldVariable.getField())) {
+				fieldVariable.setPrefetchedValue(values.get(fieldVariable.getField()));
+			}
+		}
+	}
+
 	/**
 	 * Returns this variable's current <code>Value</code>.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -203,6 +203,7 @@ public abstract class JDIModificationVariable extends JDIVariable {
 	@Override
 	public final void setValue(String expression) throws DebugException {
 		Value value = generateVMValue(expression);
+		getJavaDebugTarget().incrementModificationCount();
 		setJDIValue(value);
 	}
 
@@ -217,6 +218,7 @@ public abstract class JDIModificationVariable extends JDIVariable {
 	public final void setValue(IValue v) throws DebugException {
 		if (v instanceof JDIValue) {
 			JDIValue value = (JDIValue) v;
+			getJavaDebugTarget().incrementModificationCount();
 			setJDIValue(value.getUnderlyingValue());
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
@@ -74,6 +75,7 @@ import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.StackFrame;
 import com.sun.jdi.Type;
+import com.sun.jdi.Value;
 import com.sun.jdi.VirtualMachine;
 
 /**
@@ -117,6 +119,12 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	 * Whether the variables need refreshing
 	 */
 	private boolean fRefreshVariables = true;
+	/**
+	 * Whether the values of the variables need to be prefetched, i.e. whether
+	 * the variables have been created or refreshed since they were last
+	 * returned by #getVariables().
+	 */
+	private boolean fPrefetchValues = true;
 	/**
 	 * Whether this stack frame has been marked as out of synch. If set to
 	 * <code>true</code> this stack frame will stop dynamically calculating its
@@ -304,8 +312,57 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	 */
 	@Override
 	public IVariable[] getVariables() throws DebugException {
-		List<IJavaVariable> list = getVariables0();
-		return list.toArray(new IVariable[list.size()]);
+		synchronized (fThread) {
+			List<IJavaVariable> list = getVariables0();
+			if (fPrefetchValues) {
+				fPrefetchValues = false;
+				prefetchValues(list);
+			}
+			return list.toArray(new IVariable[list.size()]);
+		}
+	}
+
+	/**
+	 * Retrieves the values of the local variables, and of the static fields of
+	 * a static method, with one request each instead of one request per
+	 * variable, and seeds the variables with them.
+	 *
+	 * @param variables
+	 *            the variables of this frame
+	 */
+	private void prefetchValues(List<IJavaVariable> variables) throws DebugException {
+		Method method = getUnderlyingMethod();
+		if (method.isStatic()) {
+			JDIFieldVariable.prefetchValues(variables, null, method.declaringType());
+		}
+		List<JDILocalVariable> localVariables = new ArrayList<>();
+		List<LocalVariable> locals = new ArrayList<>();
+		for (IJavaVariable variable : variables) {
+			if (variable instanceof JDILocalVariable) {
+				JDILocalVariable local = (JDILocalVariable) variable;
+				localVariables.add(local);
+				locals.add(local.getLocal());
+			}
+		}
+		if (locals.isEmpty()) {
+			return;
+		}
+		StackFrame frame = getUnderlyingStackFrame();
+		if (frame == null) {
+			return;
+		}
+		Map<LocalVariable, Value> values;
+		try {
+			values = frame.getValues(locals);
+		} catch (RuntimeException e) {
+			// the values will be retrieved one at a time when accessed
+			return;
+		}
+		for (JDILocalVariable local : localVariables) {
+			if (values.containsKey(local.getLocal())) {
+				local.setPrefetchedValue(values.get(local.getLocal()));
+			}
+		}
 	}
 
 	protected List<IJavaVariable> getVariables0() throws DebugException {
@@ -391,8 +448,10 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 					LocalVariable var = variables.next();
 					fVariables.add(new JDILocalVariable(this, var));
 				}
+				fPrefetchValues = true;
 			} else if (fRefreshVariables) {
 				updateVariables();
+				fPrefetchValues = true;
 			}
 			fRefreshVariables = false;
 			return fVariables;
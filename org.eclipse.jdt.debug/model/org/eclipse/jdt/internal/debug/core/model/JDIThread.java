@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -826,6 +826,8 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 			if (rule != null) {
 				Job.getJobManager().endRule(rule);
 			}
+			// the evaluation may have changed variables of the target
+			getJavaDebugTarget().incrementModificationCount();
 			synchronized (fEvaluationLock) {
 				fEvaluationRunnable = null;
 				fHonorBreakpoints = true;
@@ -1265,6 +1267,10 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		setInvokingMethod(false);
 		setRunning(false);
 		setRequestTimeout(restoreTimeout);
+		// the invoked method may have changed any state of the target, also
+		// when invoked by an implicit evaluation which does not count as a
+		// suspend event
+		getJavaDebugTarget().incrementModificationCount();
 		// update preserved stack frames
 		try {
 			computeStackFrames();
@@ -1692,6 +1698,8 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	protected void setRunning(boolean running) {
 		fRunning = running;
 		if (running) {
+			// the thread may change the values read while it was suspended
+			getJavaDebugTarget().incrementModificationCount();
 			synchronized (breakpointAcessLock) {
 				fCurrentBreakpoints.clear();
 			}
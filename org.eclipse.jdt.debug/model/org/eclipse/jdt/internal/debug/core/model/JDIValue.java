@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import java.util.List;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdi.internal.StringReferenceImpl;
 import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
@@ -170,6 +171,37 @@ public class JDIValue extends JDIDebugElement implements IJavaValue {
 		return String.valueOf(fValue);
 	}
 
+	/**
+	 * Returns the value string of this value, limited to the first
+	 * <code>maxLength</code> characters for strings. Long strings are only
+	 * retrieved by prefix from the target, so this method is meant for
+	 * labels, while {@link #getValueString()} returns the complete value.
+	 *
+	 * @param maxLength
+	 *            the maximum number of characters of a string to return
+	 * @return the value string of this value
+	 * @throws DebugException
+	 *             if the value string cannot be retrieved
+	 */
+	public String getValueString(int maxLength) throws DebugException {
+		if (fValue instanceof StringReferenceImpl) {
+			try {
+				return ((StringReferenceImpl) fValue).value(maxLength);
+			} catch (ObjectCollectedException e) {
+				return JDIDebugModelMessages.JDIValue_deallocated;
+			} catch (RuntimeException e) {
+				targetRequestFailed(
+						MessageFormat.format(
+								JDIDebugModelMessages.JDIValue_exception_retrieving_value,
+								new Object[] { e.toString() }), e);
+				// execution will not reach this line, as
+				// #targetRequestFailed will thrown an exception
+				return null;
+			}
+		}
+		return getValueString();
+	}
+
 	/**
 	 * @see IValue#getReferenceTypeName()
 	 */
@@ -229,9 +261,26 @@ public class JDIValue extends JDIDebugElement implements IJavaValue {
 	@Override
 	public IVariable[] getVariables() throws DebugException {
 		List<IJavaVariable> list = getVariablesList();
+		prefetchValues(list);
 		return list.toArray(new IVariable[list.size()]);
 	}
 
+	/**
+	 * Retrieves the values of the fields of this object with a single request
+	 * and seeds the field variables with them. Each seeded value is only used
+	 * for the next read of its variable, so the values are retrieved again each
+	 * time the variables are asked for.
+	 *
+	 * @param variables
+	 *            the variable children of this value
+	 */
+	private void prefetchValues(List<IJavaVariable> variables) {
+		if (!(fValue instanceof ObjectReference) || fValue instanceof ArrayReference) {
+			return;
+		}
+		JDIFieldVariable.prefetchValues(variables, (ObjectReference) fValue, null);
+	}
+
 	/**
 	 * Returns a list of variables that are children of this value. The result
 	 * is cached.
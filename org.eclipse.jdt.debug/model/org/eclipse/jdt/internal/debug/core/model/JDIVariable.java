@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,20 @@ public abstract class JDIVariable extends JDIDebugElement implements
 	 */
 	private int fLastChangeIndex = -1;
 
+	/**
+	 * Value retrieved ahead of time along with the values of sibling variables,
+	 * see #setPrefetchedValue(Value).
+	 */
+	private Value fPrefetchedValue;
+
+	/**
+	 * Suspend count and modification count of the debug target when the
+	 * prefetched value was retrieved, or -1 if there is none or it has been
+	 * read.
+	 */
+	private int fPrefetchSuspendCount = -1;
+	private int fPrefetchModificationCount = -1;
+
 	protected final static String jdiStringSignature = "Ljava/lang/String;"; //$NON-NLS-1$
 
 	public JDIVariable(JDIDebugTarget target) {
@@ -71,6 +85,14 @@ public abstract class JDIVariable extends JDIDebugElement implements
 	 */
 	protected final Value getCurrentValue() throws DebugException {
 		try {
+			synchronized (this) {
+				if (hasPrefetchedValue()) {
+					Value value = fPrefetchedValue;
+					fPrefetchedValue = null;
+					fPrefetchSuspendCount = -1;
+					return value;
+				}
+			}
 			return retrieveValue();
 		} catch (RuntimeException e) {
 			targetRequestFailed(MessageFormat.format(
@@ -87,6 +109,33 @@ public abstract class JDIVariable extends JDIDebugElement implements
 	 */
 	protected abstract Value retrieveValue() throws DebugException;
 
+	/**
+	 * Seeds this variable with its current value, retrieved in a single
+	 * request along with the values of its sibling variables. The value is
+	 * returned by the next call to #getCurrentValue() unless the target
+	 * suspends again or a variable is modified before. Later calls retrieve
+	 * the value again, since threads that are not suspended may change it.
+	 *
+	 * @param value
+	 *            the current value of this variable
+	 */
+	protected synchronized void setPrefetchedValue(Value value) {
+		JDIDebugTarget target = getJavaDebugTarget();
+		fPrefetchedValue = value;
+		fPrefetchSuspendCount = target.getSuspendCount();
+		fPrefetchModificationCount = target.getModificationCount();
+	}
+
+	/**
+	 * Returns whether this variable holds a prefetched value that has not been
+	 * read and is still current.
+	 */
+	private boolean hasPrefetchedValue() {
+		JDIDebugTarget target = getJavaDebugTarget();
+		return fPrefetchSuspendCount == target.getSuspendCount()
+				&& fPrefetchModificationCount == target.getModificationCount();
+	}
+
 	/**
 	 * Returns the current value of this variable. The value is cached, but on
 	 * each access we see if the value has changed and update if required.
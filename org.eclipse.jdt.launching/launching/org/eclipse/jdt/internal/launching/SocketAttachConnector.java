@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -137,6 +137,18 @@ public class SocketAttachConnector implements IVMConnector {
             param.setValue(timeoutString);
         }
 
+		String channelsString = arguments.get("niochannels"); //$NON-NLS-1$
+		if (channelsString != null) {
+			param = map.get("niochannels"); //$NON-NLS-1$
+			param.setValue(channelsString);
+		}
+
+		String compressionString = arguments.get("compression"); //$NON-NLS-1$
+		if (compressionString != null) {
+			param = map.get("compression"); //$NON-NLS-1$
+			param.setValue(compressionString);
+		}
+
 		ILaunchConfiguration configuration = launch.getLaunchConfiguration();
 		boolean allowTerminate = false;
 		if (configuration != null) {
@@ -216,9 +228,11 @@ public class SocketAttachConnector implements IVMConnector {
 	 */
 	@Override
 	public List<String> getArgumentOrder() {
-		List<String> list = new ArrayList<>(2);
+		List<String> list = new ArrayList<>(4);
 		list.add("hostname"); //$NON-NLS-1$
 		list.add("port"); //$NON-NLS-1$
+		list.add("niochannels"); //$NON-NLS-1$
+		list.add("compression"); //$NON-NLS-1$
 		return list;
 	}
 }
@@ -104,6 +104,12 @@ public class SocketListenConnector implements IVMConnector {
         Connector.Argument param= acceptArguments.get("port"); //$NON-NLS-1$
 		param.setValue(portNumberString);
 
+		String channelsString = arguments.get("niochannels"); //$NON-NLS-1$
+		if (channelsString != null) {
+			param = acceptArguments.get("niochannels"); //$NON-NLS-1$
+			param.setValue(channelsString);
+		}
+
 		// retain default behaviour to accept 1 connection only
 		int connectionLimit = 1;
 		if (arguments.containsKey("connectionLimit")) { //$NON-NLS-1$
@@ -143,6 +149,7 @@ public class SocketListenConnector implements IVMConnector {
 		List<String> list = new ArrayList<>(1);
 		list.add("port"); //$NON-NLS-1$
 		list.add("connectionLimit"); //$NON-NLS-1$
+		list.add("niochannels"); //$NON-NLS-1$
 		return list;
 	}
 